@@ -0,0 +1,64 @@
+package roomescape.config;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import roomescape.reservation.dto.ReservationCreateRequest;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReservationRequestReadBenchmark {
+    private static final byte[] BODY = """
+            {"themeId":1,"timeId":1,"date":"2099-01-01"}
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private ObjectReader requestReader;
+
+    @Setup
+    public void setUp() {
+        requestReader = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .readerFor(ReservationCreateRequest.class);
+    }
+
+    @Benchmark
+    public ReservationCreateRequest mapperPerRequest() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ByteArrayInputStream(BODY), StandardCharsets.UTF_8))) {
+            return objectMapper.readValue(reader, ReservationCreateRequest.class);
+        }
+    }
+
+    @Benchmark
+    public ReservationCreateRequest sharedReader() throws IOException {
+        try (InputStream body = new ByteArrayInputStream(BODY)) {
+            return requestReader.readValue(body);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package roomescape.member.security.crypto;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import roomescape.member.domain.Member;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+    private static final String SECRET_KEY = "ZG9iYnlpc21ha2luZ2phdmFzcHJpbmdyb29tZXNjYXBlbWVtYmVy";
+    private static final long VALIDITY_IN_MILLISECONDS = 3_600_000L;
+
+    private JwtTokenProvider tokenProvider;
+    private JwtTokenProvider coldTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET_KEY, VALIDITY_IN_MILLISECONDS);
+        token = tokenProvider.createToken(new Member(1L, "켬미", "kyummi@email.com", "pass"), new Date());
+        tokenProvider.findPayload(token);
+    }
+
+    @Setup(Level.Invocation)
+    public void clearColdCache() {
+        coldTokenProvider = new JwtTokenProvider(SECRET_KEY, VALIDITY_IN_MILLISECONDS);
+    }
+
+    @Benchmark
+    public Optional<Map<String, String>> coldVerification() {
+        return coldTokenProvider.findPayload(token);
+    }
+
+    @Benchmark
+    public Optional<Map<String, String>> cachedVerification() {
+        return tokenProvider.findPayload(token);
+    }
+}
@@ -0,0 +1,73 @@
+package roomescape.reservation.service;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import roomescape.reservation.dto.ReservationCreateRequest;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class ReservationBookingCoordinatorBenchmark {
+    private static final long BOOKING_TOKENS = 500;
+    private static final LocalDate DATE = LocalDate.of(2099, 1, 1);
+
+    @Param({"1", "128"})
+    private int stripeCount;
+
+    private ReservationBookingCoordinator coordinator;
+
+    @Setup
+    public void setUp() {
+        coordinator = new ReservationBookingCoordinator(stripeCount);
+    }
+
+    @State(Scope.Thread)
+    public static class Contender {
+        private static final AtomicLong SEQUENCE = new AtomicLong();
+
+        private ReservationCreateRequest sameSlot;
+        private ReservationCreateRequest ownSlot;
+
+        @Setup
+        public void setUp() {
+            long sequence = SEQUENCE.incrementAndGet();
+            sameSlot = new ReservationCreateRequest(sequence, 1L, 1L, DATE);
+            ownSlot = new ReservationCreateRequest(sequence, sequence, sequence, DATE.plusDays(sequence));
+        }
+    }
+
+    @Benchmark
+    public Object sameSlot(Contender contender) {
+        return coordinator.coordinate(contender.sameSlot, this::book);
+    }
+
+    @Benchmark
+    public Object differentSlots(Contender contender) {
+        return coordinator.coordinate(contender.ownSlot, this::book);
+    }
+
+    private Object book() {
+        Blackhole.consumeCPU(BOOKING_TOKENS);
+        return Boolean.TRUE;
+    }
+}
@@ -0,0 +1,109 @@
+package roomescape.reservation.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import roomescape.RoomEscapeApplication;
+import roomescape.member.domain.Member;
+import roomescape.member.repository.MemberRepository;
+import roomescape.reservation.dto.ReservationImportResponse;
+import roomescape.theme.domain.Theme;
+import roomescape.theme.repository.ThemeRepository;
+import roomescape.time.domain.Time;
+import roomescape.time.repository.TimeRepository;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ReservationImportBenchmark {
+    private static final int ROW_COUNT = 10_000;
+    private static final int THEME_COUNT = 100;
+    private static final int TIME_COUNT = 10;
+    private static final int MEMBER_COUNT = 100;
+    private static final int DAYS_PER_ITERATION = ROW_COUNT / (THEME_COUNT * TIME_COUNT);
+    private static final LocalDate FIRST_DATE = LocalDate.of(2099, 1, 1);
+
+    private ConfigurableApplicationContext context;
+    private ReservationFacadeService facadeService;
+    private final List<Long> memberIds = new ArrayList<>();
+    private final List<Long> themeIds = new ArrayList<>();
+    private final List<Long> timeIds = new ArrayList<>();
+    private int iteration;
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(RoomEscapeApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.jpa.show-sql=false")
+                .run();
+        facadeService = context.getBean(ReservationFacadeService.class);
+
+        MemberRepository memberRepository = context.getBean(MemberRepository.class);
+        ThemeRepository themeRepository = context.getBean(ThemeRepository.class);
+        TimeRepository timeRepository = context.getBean(TimeRepository.class);
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            memberIds.add(memberRepository.save(
+                    new Member("회원" + i, "bench" + i + "@email.com", "1111")).getId());
+        }
+        for (int i = 0; i < THEME_COUNT; i++) {
+            themeIds.add(themeRepository.save(new Theme("테마" + i, "설명" + i, "thumbnail.jpg")).getId());
+        }
+        for (int i = 0; i < TIME_COUNT; i++) {
+            timeIds.add(timeRepository.save(new Time(LocalTime.of(8 + i, 30))).getId());
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void prepareBody() {
+        LocalDate firstDate = FIRST_DATE.plusDays((long) iteration++ * DAYS_PER_ITERATION);
+        StringBuilder lines = new StringBuilder();
+        for (int row = 0; row < ROW_COUNT; row++) {
+            lines.append("{\"memberId\":").append(memberIds.get(row % MEMBER_COUNT))
+                    .append(",\"themeId\":").append(themeIds.get(row % THEME_COUNT))
+                    .append(",\"timeId\":").append(timeIds.get(row / THEME_COUNT % TIME_COUNT))
+                    .append(",\"date\":\"").append(firstDate.plusDays(row / (THEME_COUNT * TIME_COUNT)))
+                    .append("\"}\n");
+        }
+        body = lines.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public ReservationImportResponse importTenThousandRows() throws IOException {
+        ReservationImportResponse response = facadeService.importNdjsonReservations(new ByteArrayInputStream(body));
+        if (response.created() != ROW_COUNT) {
+            throw new IllegalStateException("%d건 중 %d건만 등록되었습니다.".formatted(ROW_COUNT, response.created()));
+        }
+        return response;
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+}
@@ -0,0 +1,37 @@
+package roomescape.config;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import roomescape.member.dto.MemberPrincipal;
+import roomescape.member.security.service.MemberAuthService;
+
+public class AuthenticationPrincipalFilter extends OncePerRequestFilter {
+    private static final String PRINCIPAL_ATTRIBUTE = AuthenticationPrincipalFilter.class.getName() + ".PRINCIPAL";
+
+    private final MemberAuthService memberAuthService;
+
+    public AuthenticationPrincipalFilter(MemberAuthService memberAuthService) {
+        this.memberAuthService = memberAuthService;
+    }
+
+    public static Optional<MemberPrincipal> findPrincipal(HttpServletRequest request) {
+        return Optional.ofNullable((MemberPrincipal) request.getAttribute(PRINCIPAL_ATTRIBUTE));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        memberAuthService.authenticate(request.getCookies())
+                .ifPresent(principal -> request.setAttribute(PRINCIPAL_ATTRIBUTE, principal));
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -1,34 +1,29 @@
 package roomescape.config;
 
-import jakarta.servlet.http.Cookie;
+import java.util.Optional;
+
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.springframework.web.servlet.HandlerInterceptor;
 
-import roomescape.member.domain.Member;
-import roomescape.member.dto.MemberProfileInfo;
-import roomescape.member.security.service.MemberAuthService;
-import roomescape.member.service.MemberService;
+import roomescape.member.dto.MemberPrincipal;
+import roomescape.member.security.service.MemberRoleCache;
 
 public class CheckRoleInterceptor implements HandlerInterceptor {
 
-    private final MemberAuthService memberAuthService;
-    private final MemberService memberService;
+    private final MemberRoleCache memberRoleCache;
 
-    public CheckRoleInterceptor(MemberAuthService memberAuthService, MemberService memberService) {
-        this.memberAuthService = memberAuthService;
-        this.memberService = memberService;
+    public CheckRoleInterceptor(MemberRoleCache memberRoleCache) {
+        this.memberRoleCache = memberRoleCache;
     }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        Cookie[] cookies = request.getCookies();
+        Optional<MemberPrincipal> principal = AuthenticationPrincipalFilter.findPrincipal(request);
 
-        if (memberAuthService.isLoginMember(cookies)) {
-            MemberProfileInfo memberProfile = memberAuthService.extractPayload(cookies);
-            Member member = memberService.findMemberById(memberProfile.id());
-            return memberAuthService.isAdmin(member);
+        if (principal.isPresent()) {
+            return principal.get().isAdmin() && memberRoleCache.isAdmin(principal.get().id());
         }
         response.setStatus(HttpServletResponse.SC_FORBIDDEN);
         return false;
@@ -2,7 +2,6 @@ package roomescape.config;
 
 import java.util.Objects;
 
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 
 import org.springframework.core.MethodParameter;
@@ -12,16 +11,10 @@ import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
 import roomescape.exception.AuthorizationExpiredException;
+import roomescape.member.dto.MemberPrincipal;
 import roomescape.member.dto.MemberProfileInfo;
-import roomescape.member.security.service.MemberAuthService;
 
 public class MemberArgumentResolver implements HandlerMethodArgumentResolver {
-    private final MemberAuthService memberAuthService;
-
-    public MemberArgumentResolver(MemberAuthService memberAuthService) {
-        this.memberAuthService = memberAuthService;
-    }
-
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         return parameter.getParameterType()
@@ -32,12 +25,9 @@ public class MemberArgumentResolver implements HandlerMethodArgumentResolver {
     public MemberProfileInfo resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
                                              NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
         HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
-        Cookie[] cookies = Objects.requireNonNull(request)
-                .getCookies();
 
-        if (memberAuthService.isLoginMember(cookies)) {
-            return memberAuthService.extractPayload(cookies);
-        }
-        throw new AuthorizationExpiredException();
+        return AuthenticationPrincipalFilter.findPrincipal(Objects.requireNonNull(request))
+                .map(MemberPrincipal::toProfileInfo)
+                .orElseThrow(AuthorizationExpiredException::new);
     }
 }
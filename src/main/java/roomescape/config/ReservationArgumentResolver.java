@@ -1,13 +1,10 @@
 package roomescape.config;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.Objects;
 
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 
 import org.springframework.core.MethodParameter;
@@ -17,18 +14,17 @@ import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.ObjectReader;
 
 import roomescape.exception.AuthorizationExpiredException;
-import roomescape.member.dto.MemberProfileInfo;
-import roomescape.member.security.service.MemberAuthService;
+import roomescape.member.dto.MemberPrincipal;
 import roomescape.reservation.dto.ReservationCreateRequest;
 
 public class ReservationArgumentResolver implements HandlerMethodArgumentResolver {
-    private final MemberAuthService memberAuthService;
+    private final ObjectReader requestReader;
 
-    public ReservationArgumentResolver(MemberAuthService memberAuthService) {
-        this.memberAuthService = memberAuthService;
+    public ReservationArgumentResolver(ObjectMapper objectMapper) {
+        this.requestReader = objectMapper.readerFor(ReservationCreateRequest.class);
     }
 
     @Override
@@ -41,27 +37,21 @@ public class ReservationArgumentResolver implements HandlerMethodArgumentResolve
     public ReservationCreateRequest resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
                                                     NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
         HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
-        Cookie[] cookies = Objects.requireNonNull(request).getCookies();
-
-        if (memberAuthService.isLoginMember(cookies)) {
-            MemberProfileInfo payload = memberAuthService.extractPayload(cookies);
-            ReservationCreateRequest reservationRequest = convertToRequestBody(request);
-            return new ReservationCreateRequest(
-                    payload.id(),
-                    reservationRequest.themeId(),
-                    reservationRequest.timeId(),
-                    LocalDate.from(reservationRequest.date())
-            );
-        }
-        throw new AuthorizationExpiredException();
+        MemberPrincipal principal = AuthenticationPrincipalFilter.findPrincipal(Objects.requireNonNull(request))
+                .orElseThrow(AuthorizationExpiredException::new);
+
+        ReservationCreateRequest reservationRequest = convertToRequestBody(request);
+        return new ReservationCreateRequest(
+                principal.id(),
+                reservationRequest.themeId(),
+                reservationRequest.timeId(),
+                LocalDate.from(reservationRequest.date())
+        );
     }
 
     private ReservationCreateRequest convertToRequestBody(HttpServletRequest request) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
-            return objectMapper.readValue(reader, ReservationCreateRequest.class);
+        try (InputStream body = request.getInputStream()) {
+            return requestReader.readValue(body);
         } catch (IOException e) {
             throw new AuthorizationExpiredException();
         }
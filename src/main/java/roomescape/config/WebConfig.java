@@ -2,34 +2,49 @@ package roomescape.config;
 
 import java.util.List;
 
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import roomescape.member.security.service.MemberAuthService;
-import roomescape.member.service.MemberService;
+import roomescape.member.security.service.MemberRoleCache;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
     private final MemberAuthService memberAuthService;
-    private final MemberService memberService;
+    private final MemberRoleCache memberRoleCache;
+    private final ObjectMapper objectMapper;
 
-    public WebConfig(MemberAuthService memberAuthService, MemberService memberService) {
+    public WebConfig(MemberAuthService memberAuthService, MemberRoleCache memberRoleCache,
+                     ObjectMapper objectMapper) {
         this.memberAuthService = memberAuthService;
-        this.memberService = memberService;
+        this.memberRoleCache = memberRoleCache;
+        this.objectMapper = objectMapper;
     }
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
-        resolvers.add(new MemberArgumentResolver(memberAuthService));
-        resolvers.add(new ReservationArgumentResolver(memberAuthService));
+        resolvers.add(new MemberArgumentResolver());
+        resolvers.add(new ReservationArgumentResolver(objectMapper));
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new CheckRoleInterceptor(memberAuthService, memberService))
+        registry.addInterceptor(new CheckRoleInterceptor(memberRoleCache))
                 .addPathPatterns("/admin/**");
     }
 
+    @Bean
+    public FilterRegistrationBean<AuthenticationPrincipalFilter> authenticationPrincipalFilter() {
+        FilterRegistrationBean<AuthenticationPrincipalFilter> registration
+                = new FilterRegistrationBean<>(new AuthenticationPrincipalFilter(memberAuthService));
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+
 }
@@ -0,0 +1,24 @@
+package roomescape.member.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import roomescape.member.dto.PasswordVerificationMetricsResponse;
+import roomescape.member.security.service.MemberAuthService;
+
+@RestController
+@RequestMapping("/admin/members")
+public class AdminMemberController {
+    private final MemberAuthService memberAuthService;
+
+    public AdminMemberController(MemberAuthService memberAuthService) {
+        this.memberAuthService = memberAuthService;
+    }
+
+    @GetMapping("/login/metrics")
+    public ResponseEntity<PasswordVerificationMetricsResponse> findLoginMetrics() {
+        return ResponseEntity.ok(memberAuthService.findPasswordVerificationMetrics());
+    }
+}
@@ -1,7 +1,6 @@
 package roomescape.member.controller;
 
 import jakarta.servlet.http.Cookie;
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.springframework.http.ResponseEntity;
@@ -14,6 +13,7 @@ import org.springframework.web.bind.annotation.RestController;
 import roomescape.member.domain.Member;
 import roomescape.member.dto.MemberLoginRequest;
 import roomescape.member.dto.MemberLoginResponse;
+import roomescape.member.dto.MemberProfileInfo;
 import roomescape.member.security.service.MemberAuthService;
 import roomescape.member.service.MemberService;
 
@@ -29,11 +29,8 @@ public class MemberLoginController {
     }
 
     @GetMapping("/check")
-    public ResponseEntity<MemberLoginResponse> loginCheck(HttpServletRequest request) {
-        Cookie[] cookies = request.getCookies();
-        String memberName = memberAuthService.extractNameFromPayload(cookies);
-
-        return ResponseEntity.ok(new MemberLoginResponse(memberName));
+    public ResponseEntity<MemberLoginResponse> loginCheck(MemberProfileInfo memberProfileInfo) {
+        return ResponseEntity.ok(new MemberLoginResponse(memberProfileInfo.name()));
     }
 
     @PostMapping
@@ -0,0 +1,18 @@
+package roomescape.member.dto;
+
+import roomescape.member.domain.MemberRole;
+
+public record MemberPrincipal(
+        Long id,
+        String name,
+        String email,
+        MemberRole role
+) {
+    public boolean isAdmin() {
+        return role.isAdmin();
+    }
+
+    public MemberProfileInfo toProfileInfo() {
+        return new MemberProfileInfo(id, name, email);
+    }
+}
@@ -0,0 +1,15 @@
+package roomescape.member.dto;
+
+public record PasswordVerification(boolean matched, String upgradedPassword) {
+    public static PasswordVerification mismatched() {
+        return new PasswordVerification(false, null);
+    }
+
+    public static PasswordVerification matched(String upgradedPassword) {
+        return new PasswordVerification(true, upgradedPassword);
+    }
+
+    public boolean needsUpgrade() {
+        return matched && upgradedPassword != null;
+    }
+}
@@ -0,0 +1,14 @@
+package roomescape.member.dto;
+
+public record PasswordVerificationMetricsResponse(
+        int poolSize,
+        int activeCount,
+        int queueDepth,
+        int queueCapacity,
+        long completedCount,
+        long rejectedCount,
+        long lastLatencyMillis,
+        long maxLatencyMillis
+) {
+
+}
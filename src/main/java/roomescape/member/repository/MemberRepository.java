@@ -1,15 +1,35 @@
 package roomescape.member.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import roomescape.member.domain.Member;
 import roomescape.member.domain.MemberRole;
+import roomescape.member.dto.MemberProfileInfo;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByEmail(String email);
 
     List<Member> findAllByRole(MemberRole role);
+
+    @Query("""
+            SELECT new roomescape.member.dto.MemberProfileInfo(m.id, m.name, m.email)
+            FROM Member m
+            WHERE m.role = :role
+            """)
+    List<MemberProfileInfo> findProfilesByRole(MemberRole role);
+
+    @Query("SELECT m.id FROM Member m WHERE m.id IN :ids")
+    List<Long> findIdsByIdIn(Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.password = :password WHERE m.id = :id")
+    int updatePasswordById(Long id, String password);
 }
@@ -1,27 +1,46 @@
 package roomescape.member.security.crypto;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.impl.TextCodec;
 import roomescape.member.domain.Member;
+import roomescape.member.domain.MemberRole;
 
 @Component
 public class JwtTokenProvider implements TokenProvider {
-    private final String secretKey;
+    private static final SignatureAlgorithm SIGNATURE_ALGORITHM = SignatureAlgorithm.HS256;
+    private static final int MAX_CACHED_TOKENS = 10_000;
+
+    private final SecretKey signingKey;
+    private final JwtParser parser;
     private final long validityInMilliseconds;
+    private final Map<String, VerifiedToken> verifiedTokens = new LinkedHashMap<>(16, 0.75f, true);
 
     public JwtTokenProvider(
             @Value("${security.jwt.token.secret-key}") String secretKey,
             @Value("${security.jwt.token.expire-length}") long validityInMilliseconds) {
-        this.secretKey = secretKey;
+        this.signingKey = new SecretKeySpec(TextCodec.BASE64.decode(secretKey), SIGNATURE_ALGORITHM.getJcaName());
+        this.parser = Jwts.parser()
+                .setSigningKey(signingKey);
         this.validityInMilliseconds = validityInMilliseconds;
     }
 
@@ -31,6 +50,7 @@ public class JwtTokenProvider implements TokenProvider {
                 .setSubject(String.valueOf(member.getId()));
         claims.put("email", member.getEmail());
         claims.put("name", member.getName());
+        claims.put("role", member.getRole().name());
 
         Date validity = new Date(issuedAt.getTime() + validityInMilliseconds);
 
@@ -38,40 +58,97 @@ public class JwtTokenProvider implements TokenProvider {
                 .setClaims(claims)
                 .setIssuedAt(issuedAt)
                 .setExpiration(validity)
-                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .signWith(SIGNATURE_ALGORITHM, signingKey)
                 .compact();
     }
 
     @Override
-    public Map<String, String> getPayload(String token) {
-        Jws<Claims> claims = Jwts.parser()
-                .setSigningKey(secretKey)
-                .parseClaimsJws(token);
+    public Optional<Map<String, String>> findPayload(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+
+        long now = System.currentTimeMillis();
+        String digest = digest(token);
+        VerifiedToken cached = findCached(digest, now);
+        if (cached != null) {
+            return Optional.of(cached.payload());
+        }
+
+        Optional<VerifiedToken> verified = verify(token, now);
+        verified.ifPresent(verifiedToken -> cache(digest, verifiedToken));
+        return verified.map(VerifiedToken::payload);
+    }
+
+    private Optional<VerifiedToken> verify(String token, long now) {
+        try {
+            Claims claims = parser.parseClaimsJws(token)
+                    .getBody();
+
+            long expiresAt = claims.getExpiration().getTime();
+            if (expiresAt <= now) {
+                return Optional.empty();
+            }
+            return Optional.of(new VerifiedToken(toPayload(claims), expiresAt));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private VerifiedToken findCached(String digest, long now) {
+        synchronized (verifiedTokens) {
+            VerifiedToken cached = verifiedTokens.get(digest);
+            if (cached != null && !cached.isValidAt(now)) {
+                verifiedTokens.remove(digest);
+                return null;
+            }
+            return cached;
+        }
+    }
+
+    private void cache(String digest, VerifiedToken verifiedToken) {
+        synchronized (verifiedTokens) {
+            verifiedTokens.putIfAbsent(digest, verifiedToken);
+            evictOverflow();
+        }
+    }
 
-        Claims claimsBody = claims.getBody();
+    private void evictOverflow() {
+        Iterator<VerifiedToken> iterator = verifiedTokens.values().iterator();
+        while (verifiedTokens.size() > MAX_CACHED_TOKENS && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Map<String, String> toPayload(Claims claimsBody) {
         String id = claimsBody.getSubject();
         String email = claimsBody.get("email", String.class);
         String name = claimsBody.get("name", String.class);
+        String role = Optional.ofNullable(claimsBody.get("role", String.class))
+                .orElse(MemberRole.USER.name());
 
         return Map.of(
                 "id", id,
                 "email", email,
-                "name", name
+                "name", name,
+                "role", role
         );
     }
 
-    @Override
-    public boolean validateToken(String token) {
-        try {
-            Jws<Claims> claims = Jwts.parser()
-                    .setSigningKey(secretKey)
-                    .parseClaimsJws(token);
-
-            return claims.getBody()
-                    .getExpiration()
-                    .after(new Date());
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+    private record VerifiedToken(Map<String, String> payload, long expiresAt) {
+        boolean isValidAt(long now) {
+            return expiresAt > now;
         }
     }
 }
@@ -1,11 +1,15 @@
 package roomescape.member.security.crypto;
 
+import java.util.regex.Pattern;
+
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
 @Component
 public class PasswordBcryptEncoder implements PasswordEncoder {
-    private static final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private static final int STRENGTH = 10;
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2([ayb])?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+    private static final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(STRENGTH);
 
     public boolean matches(String rawPassword, String encodedPassword) {
         if (passwordEncoder.matches(rawPassword, encodedPassword)) {
@@ -13,4 +17,15 @@ public class PasswordBcryptEncoder implements PasswordEncoder {
         }
         return rawPassword.equals(encodedPassword);
     }
+
+    public String encode(String rawPassword) {
+        return passwordEncoder.encode(rawPassword);
+    }
+
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || !BCRYPT_PATTERN.matcher(encodedPassword).matches()) {
+            return false;
+        }
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
 }
@@ -2,4 +2,8 @@ package roomescape.member.security.crypto;
 
 public interface PasswordEncoder {
     boolean matches(String rawPassword, String encodedPassword);
+
+    String encode(String rawPassword);
+
+    boolean upgradeEncoding(String encodedPassword);
 }
@@ -2,13 +2,12 @@ package roomescape.member.security.crypto;
 
 import java.util.Date;
 import java.util.Map;
+import java.util.Optional;
 
 import roomescape.member.domain.Member;
 
 public interface TokenProvider {
     String createToken(Member member, Date issuedAt);
 
-    Map<String, String> getPayload(String token);
-
-    boolean validateToken(String token);
+    Optional<Map<String, String>> findPayload(String token);
 }
@@ -2,7 +2,7 @@ package roomescape.member.security.service;
 
 import java.util.Arrays;
 import java.util.Date;
-import java.util.Map;
+import java.util.Optional;
 
 import jakarta.servlet.http.Cookie;
 
@@ -10,63 +10,69 @@ import org.springframework.stereotype.Service;
 
 import roomescape.exception.AuthorizationMismatchExpiredException;
 import roomescape.member.domain.Member;
+import roomescape.member.domain.MemberRole;
 import roomescape.member.dto.MemberLoginRequest;
-import roomescape.member.dto.MemberProfileInfo;
-import roomescape.member.security.crypto.PasswordEncoder;
+import roomescape.member.dto.MemberPrincipal;
+import roomescape.member.dto.PasswordVerification;
+import roomescape.member.dto.PasswordVerificationMetricsResponse;
+import roomescape.member.repository.MemberRepository;
 import roomescape.member.security.crypto.TokenProvider;
 
 @Service
 public class MemberAuthService {
     public static final String TOKEN_NAME = "token";
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordVerifier passwordVerifier;
     private final TokenProvider tokenProvider;
+    private final MemberRoleCache memberRoleCache;
+    private final MemberRepository memberRepository;
 
-    public MemberAuthService(PasswordEncoder passwordEncoder, TokenProvider tokenProvider) {
-        this.passwordEncoder = passwordEncoder;
+    public MemberAuthService(PasswordVerifier passwordVerifier, TokenProvider tokenProvider,
+                             MemberRoleCache memberRoleCache, MemberRepository memberRepository) {
+        this.passwordVerifier = passwordVerifier;
         this.tokenProvider = tokenProvider;
+        this.memberRoleCache = memberRoleCache;
+        this.memberRepository = memberRepository;
     }
 
     public void validateAuthentication(Member member, MemberLoginRequest memberLoginRequest)
             throws AuthorizationMismatchExpiredException {
-        if (!passwordEncoder.matches(memberLoginRequest.password(), member.getPassword())) {
+        PasswordVerification verification = passwordVerifier.verify(
+                memberLoginRequest.password(), member.getPassword());
+        if (!verification.matched()) {
             throw new AuthorizationMismatchExpiredException();
         }
+        if (verification.needsUpgrade()) {
+            memberRepository.updatePasswordById(member.getId(), verification.upgradedPassword());
+        }
+    }
+
+    public PasswordVerificationMetricsResponse findPasswordVerificationMetrics() {
+        return passwordVerifier.metrics();
     }
 
     public String publishToken(Member member) {
+        memberRoleCache.update(member.getId(), member.getRole());
         Date now = new Date();
         return tokenProvider.createToken(member, now);
     }
 
-    public MemberProfileInfo extractPayload(Cookie[] cookies) {
-        String token = extractTokenFromCookie(cookies);
-        Map<String, String> payload = tokenProvider.getPayload(token);
-        return new MemberProfileInfo(
-                Long.valueOf(payload.get("id")),
-                payload.get("name"),
-                payload.get("email"));
-    }
-
-    public String extractNameFromPayload(Cookie[] cookies) {
-        String token = extractTokenFromCookie(cookies);
-        Map<String, String> tokenPayload = tokenProvider.getPayload(token);
-        return tokenPayload.get("name");
+    public Optional<MemberPrincipal> authenticate(Cookie[] cookies) {
+        return findTokenFromCookie(cookies)
+                .flatMap(tokenProvider::findPayload)
+                .map(payload -> new MemberPrincipal(
+                        Long.valueOf(payload.get("id")),
+                        payload.get("name"),
+                        payload.get("email"),
+                        MemberRole.valueOf(payload.get("role"))));
     }
 
-    public boolean isLoginMember(Cookie[] cookies) {
-        String token = extractTokenFromCookie(cookies);
-        return tokenProvider.validateToken(token);
-    }
-
-    private String extractTokenFromCookie(Cookie[] cookies) {
+    private Optional<String> findTokenFromCookie(Cookie[] cookies) {
+        if (cookies == null) {
+            return Optional.empty();
+        }
         return Arrays.stream(cookies)
                 .filter(cookie -> TOKEN_NAME.equals(cookie.getName()))
                 .findFirst()
-                .map(Cookie::getValue)
-                .orElseThrow(AuthorizationMismatchExpiredException::new);
-    }
-
-    public boolean isAdmin(Member member) {
-        return member.isAdmin();
+                .map(Cookie::getValue);
     }
 }
@@ -0,0 +1,81 @@
+package roomescape.member.security.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import roomescape.member.domain.Member;
+import roomescape.member.domain.MemberRole;
+import roomescape.member.repository.MemberRepository;
+
+@Component
+public class MemberRoleCache {
+    private static final int MAX_CACHED_ADMINS = 1_000;
+
+    private final MemberRepository memberRepository;
+    private final long ttlMillis;
+    private final Map<Long, Long> adminExpirations = new LinkedHashMap<>(16, 0.75f, true);
+
+    public MemberRoleCache(MemberRepository memberRepository,
+                           @Value("${security.role-cache.ttl-millis:60000}") long ttlMillis) {
+        this.memberRepository = memberRepository;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public boolean isAdmin(Long memberId) {
+        if (isCachedAdmin(memberId, System.currentTimeMillis())) {
+            return true;
+        }
+        MemberRole role = memberRepository.findById(memberId)
+                .map(Member::getRole)
+                .orElse(null);
+        if (role == null) {
+            evict(memberId);
+            return false;
+        }
+        update(memberId, role);
+        return role.isAdmin();
+    }
+
+    public void update(Long memberId, MemberRole role) {
+        if (!role.isAdmin()) {
+            evict(memberId);
+            return;
+        }
+        synchronized (adminExpirations) {
+            adminExpirations.put(memberId, System.currentTimeMillis() + ttlMillis);
+            evictOverflow();
+        }
+    }
+
+    public void evict(Long memberId) {
+        synchronized (adminExpirations) {
+            adminExpirations.remove(memberId);
+        }
+    }
+
+    private boolean isCachedAdmin(Long memberId, long now) {
+        synchronized (adminExpirations) {
+            Long expiresAt = adminExpirations.get(memberId);
+            if (expiresAt == null) {
+                return false;
+            }
+            if (expiresAt <= now) {
+                adminExpirations.remove(memberId);
+                return false;
+            }
+            return true;
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Long> iterator = adminExpirations.values().iterator();
+        while (adminExpirations.size() > MAX_CACHED_ADMINS && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
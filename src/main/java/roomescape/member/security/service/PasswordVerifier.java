@@ -0,0 +1,121 @@
+package roomescape.member.security.service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import roomescape.exception.ServiceUnavailableException;
+import roomescape.member.dto.PasswordVerification;
+import roomescape.member.dto.PasswordVerificationMetricsResponse;
+import roomescape.member.security.crypto.PasswordEncoder;
+
+@Component
+public class PasswordVerifier {
+    private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors();
+    private static final int QUEUE_CAPACITY = POOL_SIZE * 4;
+    private static final long TIMEOUT_MILLIS = Duration.ofSeconds(5).toMillis();
+    private static final String SATURATED_MESSAGE = "로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    private final Logger logger = LoggerFactory.getLogger(PasswordVerifier.class.getName());
+    private final PasswordEncoder passwordEncoder;
+    private final LongAdder rejectedCount = new LongAdder();
+    private final AtomicLong lastLatencyMillis = new AtomicLong();
+    private final AtomicLong maxLatencyMillis = new AtomicLong();
+    private final AtomicInteger threadNumber = new AtomicInteger();
+    private final ThreadPoolExecutor worker = new ThreadPoolExecutor(
+            POOL_SIZE, POOL_SIZE, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            runnable -> {
+                Thread thread = new Thread(runnable, "password-verifier-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+
+    public PasswordVerifier(PasswordEncoder passwordEncoder) {
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    public PasswordVerification verify(String rawPassword, String encodedPassword) {
+        long submittedAt = System.nanoTime();
+        Future<PasswordVerification> verification = submit(rawPassword, encodedPassword, submittedAt);
+        try {
+            return verification.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            verification.cancel(true);
+            logger.warn("비밀번호 검증이 {}ms 안에 끝나지 않았습니다.", TIMEOUT_MILLIS);
+            throw new ServiceUnavailableException(SATURATED_MESSAGE);
+        } catch (InterruptedException e) {
+            verification.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(SATURATED_MESSAGE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public PasswordVerificationMetricsResponse metrics() {
+        return new PasswordVerificationMetricsResponse(
+                POOL_SIZE,
+                worker.getActiveCount(),
+                worker.getQueue().size(),
+                QUEUE_CAPACITY,
+                worker.getCompletedTaskCount(),
+                rejectedCount.sum(),
+                lastLatencyMillis.get(),
+                maxLatencyMillis.get());
+    }
+
+    private Future<PasswordVerification> submit(String rawPassword, String encodedPassword, long submittedAt) {
+        try {
+            return worker.submit(() -> {
+                try {
+                    return verifyNow(rawPassword, encodedPassword);
+                } finally {
+                    record(submittedAt);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            throw new ServiceUnavailableException(SATURATED_MESSAGE);
+        }
+    }
+
+    private PasswordVerification verifyNow(String rawPassword, String encodedPassword) {
+        if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+            return PasswordVerification.mismatched();
+        }
+        if (passwordEncoder.upgradeEncoding(encodedPassword)) {
+            return PasswordVerification.matched(passwordEncoder.encode(rawPassword));
+        }
+        return PasswordVerification.matched(null);
+    }
+
+    private void record(long submittedAt) {
+        long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submittedAt);
+        lastLatencyMillis.set(latencyMillis);
+        maxLatencyMillis.accumulateAndGet(latencyMillis, Math::max);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+}
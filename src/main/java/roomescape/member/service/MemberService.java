@@ -3,6 +3,7 @@ package roomescape.member.service;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import roomescape.exception.AuthorizationLoginFailException;
 import roomescape.exception.ConflictException;
@@ -21,11 +22,9 @@ public class MemberService {
         this.memberRepository = memberRepository;
     }
 
+    @Transactional(readOnly = true)
     public List<MemberProfileInfo> findAllMembers() {
-        return memberRepository.findAllByRole(MemberRole.USER)
-                .stream()
-                .map(MemberProfileInfo::from)
-                .toList();
+        return memberRepository.findProfilesByRole(MemberRole.USER);
     }
 
     public Member findMemberByEmail(MemberLoginRequest memberLoginRequest) {
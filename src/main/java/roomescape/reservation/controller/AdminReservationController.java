@@ -1,9 +1,12 @@
 package roomescape.reservation.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.time.LocalDate;
-import java.util.List;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -11,15 +14,23 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import roomescape.reservation.dto.ReservationConditionSearchRequest;
 import roomescape.reservation.dto.ReservationCreateRequest;
+import roomescape.reservation.dto.ReservationExportFormat;
+import roomescape.reservation.dto.ReservationImportResponse;
+import roomescape.reservation.dto.ReservationPageRequest;
+import roomescape.reservation.dto.ReservationPageResponse;
 import roomescape.reservation.dto.ReservationResponse;
+import roomescape.reservation.dto.WaitingPromotionMetricsResponse;
 import roomescape.reservation.service.ReservationFacadeService;
 
 @RestController
 @RequestMapping("/admin/reservations")
 public class AdminReservationController {
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
     private final ReservationFacadeService reservationFacadeService;
 
     public AdminReservationController(ReservationFacadeService reservationFacadeService) {
@@ -27,19 +38,41 @@ public class AdminReservationController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<ReservationResponse>> findReservationsInCondition(
-            @RequestParam("themeId") long themeId,
-            @RequestParam("memberId") long memberId,
-            @RequestParam("dateFrom") LocalDate dateFrom,
-            @RequestParam("dateTo") LocalDate dateTo
+    public ResponseEntity<ReservationPageResponse> findReservationsInCondition(
+            @RequestParam(value = "themeId", required = false) Long themeId,
+            @RequestParam(value = "memberId", required = false) Long memberId,
+            @RequestParam(value = "dateFrom", required = false) LocalDate dateFrom,
+            @RequestParam(value = "dateTo", required = false) LocalDate dateTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + ReservationPageRequest.DEFAULT_SIZE) int size
     ) {
         ReservationConditionSearchRequest request
                 = new ReservationConditionSearchRequest(memberId, themeId, dateFrom, dateTo);
-        List<ReservationResponse> reservationResponse = reservationFacadeService.findReservationsInCondition(request);
+        ReservationPageResponse reservationResponse = reservationFacadeService.findReservationsInCondition(
+                request, ReservationPageRequest.of(cursor, size));
 
         return ResponseEntity.ok(reservationResponse);
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportReservations(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ReservationExportFormat exportFormat = ReservationExportFormat.from(format);
+        StreamingResponseBody body
+                = outputStream -> reservationFacadeService.exportReservations(exportFormat, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"reservations." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    @GetMapping("/promotions/metrics")
+    public ResponseEntity<WaitingPromotionMetricsResponse> findPromotionMetrics() {
+        return ResponseEntity.ok(reservationFacadeService.findPromotionMetrics());
+    }
+
     @PostMapping
     public ResponseEntity<ReservationResponse> createReservation(@RequestBody ReservationCreateRequest request) {
         ReservationResponse reservationCreateResponse = reservationFacadeService.createReservation(request);
@@ -48,4 +81,14 @@ public class AdminReservationController {
         return ResponseEntity.created(uri)
                 .body(reservationCreateResponse);
     }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ReservationImportResponse> importReservations(InputStream body) throws IOException {
+        return ResponseEntity.ok(reservationFacadeService.importJsonReservations(body));
+    }
+
+    @PostMapping(value = "/bulk", consumes = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ReservationImportResponse> importNdjsonReservations(InputStream body) throws IOException {
+        return ResponseEntity.ok(reservationFacadeService.importNdjsonReservations(body));
+    }
 }
@@ -4,36 +4,56 @@ import java.net.URI;
 import java.time.LocalDate;
 import java.util.List;
 
+import jakarta.validation.Valid;
+
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import roomescape.member.dto.MemberProfileInfo;
 import roomescape.reservation.dto.MyReservationResponse;
 import roomescape.reservation.dto.ReservationCreateRequest;
+import roomescape.reservation.dto.ReservationDateAvailabilityResponse;
+import roomescape.reservation.dto.ReservationHoldRequest;
+import roomescape.reservation.dto.ReservationHoldResponse;
+import roomescape.reservation.dto.ReservationPageRequest;
+import roomescape.reservation.dto.ReservationPageResponse;
 import roomescape.reservation.dto.ReservationResponse;
 import roomescape.reservation.dto.ReservationTimeAvailabilityResponse;
 import roomescape.reservation.service.ReservationFacadeService;
+import roomescape.version.AggregateType;
+import roomescape.version.AggregateVersionRegistry;
 
 @RestController
 @RequestMapping("/reservations")
 public class ReservationController {
     private final ReservationFacadeService reservationFacadeService;
+    private final AggregateVersionRegistry versionRegistry;
 
-    public ReservationController(ReservationFacadeService reservationFacadeService) {
+    public ReservationController(ReservationFacadeService reservationFacadeService,
+                                 AggregateVersionRegistry versionRegistry) {
         this.reservationFacadeService = reservationFacadeService;
+        this.versionRegistry = versionRegistry;
     }
 
     @GetMapping
-    public ResponseEntity<List<ReservationResponse>> findReservations() {
-        List<ReservationResponse> reservationResponse = reservationFacadeService.findReservations();
+    public ResponseEntity<ReservationPageResponse> findReservations(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + ReservationPageRequest.DEFAULT_SIZE) int size) {
+        ReservationPageResponse response
+                = reservationFacadeService.findReservations(ReservationPageRequest.of(cursor, size));
 
-        return ResponseEntity.ok(reservationResponse);
+        return ResponseEntity.ok(response);
     }
 
     @GetMapping("/mine")
@@ -46,16 +66,74 @@ public class ReservationController {
     @GetMapping("/times/{themeId}")
     public ResponseEntity<List<ReservationTimeAvailabilityResponse>> findReservationTimes(
             @PathVariable long themeId,
-            @RequestParam LocalDate date) {
+            @RequestParam LocalDate date,
+            WebRequest webRequest) {
+        String eTag = versionRegistry.eTagOf(AggregateType.TIME, AggregateType.RESERVATION, AggregateType.HOLD);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         List<ReservationTimeAvailabilityResponse> timeAvailabilityReadResponse
                 = reservationFacadeService.findReservationTimes(themeId, date);
 
-        return ResponseEntity.ok(timeAvailabilityReadResponse);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(timeAvailabilityReadResponse);
+    }
+
+    @GetMapping(value = "/times/{themeId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeReservationTimes(
+            @PathVariable long themeId,
+            @RequestParam LocalDate date) {
+        return reservationFacadeService.subscribeReservationTimes(themeId, date);
+    }
+
+    @GetMapping("/availability")
+    public ResponseEntity<List<ReservationDateAvailabilityResponse>> findReservationAvailability(
+            @RequestParam long themeId,
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to,
+            WebRequest webRequest) {
+        String eTag = versionRegistry.eTagOf(AggregateType.TIME, AggregateType.RESERVATION, AggregateType.HOLD);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        List<ReservationDateAvailabilityResponse> availabilityReadResponse
+                = reservationFacadeService.findReservationAvailability(themeId, from, to);
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(availabilityReadResponse);
+    }
+
+    @PostMapping("/holds")
+    public ResponseEntity<ReservationHoldResponse> holdReservationTime(
+            MemberProfileInfo memberProfileInfo,
+            @RequestBody @Valid ReservationHoldRequest request) {
+        ReservationHoldResponse response = reservationFacadeService.holdReservationTime(memberProfileInfo, request);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("/holds")
+    public ResponseEntity<Void> releaseReservationTime(
+            MemberProfileInfo memberProfileInfo,
+            @RequestParam long themeId,
+            @RequestParam long timeId,
+            @RequestParam LocalDate date) {
+        reservationFacadeService.releaseReservationTime(
+                memberProfileInfo, new ReservationHoldRequest(themeId, timeId, date));
+
+        return ResponseEntity.noContent()
+                .build();
     }
 
     @PostMapping
-    public ResponseEntity<ReservationResponse> createReservation(ReservationCreateRequest request) {
-        ReservationResponse reservationCreateResponse = reservationFacadeService.createReservation(request);
+    public ResponseEntity<ReservationResponse> createReservation(
+            ReservationCreateRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        ReservationResponse reservationCreateResponse = reservationFacadeService.createReservation(request, idempotencyKey);
 
         URI uri = URI.create("/reservations/" + reservationCreateResponse.id());
         return ResponseEntity.created(uri)
@@ -1,17 +1,20 @@
 package roomescape.reservation.controller;
 
 import java.net.URI;
-import java.util.List;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import roomescape.reservation.dto.ReservationCreateRequest;
+import roomescape.reservation.dto.ReservationPageRequest;
+import roomescape.reservation.dto.ReservationPageResponse;
 import roomescape.reservation.dto.ReservationResponse;
 import roomescape.reservation.service.ReservationFacadeService;
 
@@ -25,15 +28,20 @@ public class WaitingReservationController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ReservationResponse>> findReservationWaitings() {
-        List<ReservationResponse> response = reservationFacadeService.findReservationWaitings();
+    public ResponseEntity<ReservationPageResponse> findReservationWaitings(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + ReservationPageRequest.DEFAULT_SIZE) int size) {
+        ReservationPageResponse response
+                = reservationFacadeService.findReservationWaitings(ReservationPageRequest.of(cursor, size));
 
         return ResponseEntity.ok(response);
     }
 
     @PostMapping
-    public ResponseEntity<ReservationResponse> createWaitingReservation(ReservationCreateRequest request) {
-        ReservationResponse reservationCreateResponse = reservationFacadeService.createWaitingReservation(request);
+    public ResponseEntity<ReservationResponse> createWaitingReservation(
+            ReservationCreateRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        ReservationResponse reservationCreateResponse = reservationFacadeService.createWaitingReservation(request, idempotencyKey);
 
         URI uri = URI.create("/waiting-reservations/" + reservationCreateResponse.id());
         return ResponseEntity.created(uri)
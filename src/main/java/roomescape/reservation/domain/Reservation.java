@@ -9,6 +9,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -21,10 +22,12 @@ import roomescape.time.domain.Time;
 
 @Entity
 @Table(uniqueConstraints = {
-        @UniqueConstraint(columnNames = {"member_id", "detail_id"})
+        @UniqueConstraint(columnNames = {"detail_id"})
+}, indexes = {
+        @Index(name = "idx_reservation_member", columnList = "member_id")
 })
 public class Reservation {
-    private static final String status = "예약";
+    public static final String STATUS = "예약";
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -60,10 +63,6 @@ public class Reservation {
         }
     }
 
-    public boolean isReservedAtPeriod(LocalDate start, LocalDate end) {
-        return detail.isReservedAtPeriod(start, end);
-    }
-
     public Long getId() {
         return id;
     }
@@ -109,7 +108,7 @@ public class Reservation {
     }
 
     public String getStatus() {
-        return status;
+        return STATUS;
     }
 
     @Override
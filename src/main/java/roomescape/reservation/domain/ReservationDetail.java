@@ -1,6 +1,7 @@
 package roomescape.reservation.domain;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.Objects;
 
 import jakarta.persistence.Column;
@@ -9,11 +10,14 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import roomescape.exception.BadRequestException;
 import roomescape.theme.domain.Theme;
 import roomescape.time.domain.Time;
@@ -21,6 +25,9 @@ import roomescape.time.domain.Time;
 @Entity
 @Table(uniqueConstraints = {
         @UniqueConstraint(columnNames = {"theme_id", "time_id", "date"})
+}, indexes = {
+        @Index(name = "idx_reservation_detail_date_start_at_id", columnList = "date, start_at, id"),
+        @Index(name = "idx_reservation_detail_theme_date", columnList = "theme_id, date")
 })
 public class ReservationDetail {
     @Id
@@ -35,6 +42,11 @@ public class ReservationDetail {
     private Time time;
     @Column(nullable = false, name = "date")
     private LocalDate date;
+    @Column(nullable = false, name = "start_at", updatable = false)
+    private LocalTime startAt;
+    @ColumnDefault("0")
+    @Column(nullable = false, name = "waiting_seq", insertable = false, updatable = false)
+    private long waitingSeq;
 
     protected ReservationDetail() {
     }
@@ -49,6 +61,7 @@ public class ReservationDetail {
         this.theme = theme;
         this.time = time;
         this.date = date;
+        this.startAt = time.getStartAt();
     }
 
     private void validateNotNull(Theme theme, Time time, LocalDate date) {
@@ -61,10 +74,6 @@ public class ReservationDetail {
         }
     }
 
-    public boolean isReservedAtPeriod(LocalDate start, LocalDate end) {
-        return date.isAfter(start) && date.isBefore(end);
-    }
-
     public Long getId() {
         return id;
     }
@@ -73,6 +82,10 @@ public class ReservationDetail {
         return date;
     }
 
+    public LocalTime getStartAt() {
+        return startAt;
+    }
+
     public Time getTime() {
         return time;
     }
@@ -22,10 +22,11 @@ import roomescape.time.domain.Time;
 
 @Entity
 @Table(uniqueConstraints = {
-        @UniqueConstraint(columnNames = {"member_id", "detail_id"})
+        @UniqueConstraint(columnNames = {"member_id", "detail_id"}),
+        @UniqueConstraint(columnNames = {"detail_id", "seq"})
 })
 public class ReservationWaiting {
-    private static final String status = "예약대기";
+    public static final String STATUS = "예약대기";
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -37,28 +38,32 @@ public class ReservationWaiting {
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "detail_id")
     private ReservationDetail detail;
+    @Column(nullable = false, name = "seq")
+    private Long seq;
     @Column(nullable = false, name = "create_at")
     private LocalDateTime createAt;
 
     protected ReservationWaiting() {
     }
 
-    public ReservationWaiting(Member member, ReservationDetail detail) {
-        this(null, member, detail);
+    public ReservationWaiting(Member member, ReservationDetail detail, Long seq) {
+        this(null, member, detail, seq);
     }
 
-    public ReservationWaiting(Long id, Member member, ReservationDetail detail) {
-        validateNotNull(member, detail);
+    public ReservationWaiting(Long id, Member member, ReservationDetail detail, Long seq) {
+        validateNotNull(member, detail, seq);
         this.id = id;
         this.member = member;
         this.detail = detail;
+        this.seq = seq;
         this.createAt = LocalDateTime.now();
     }
 
-    private void validateNotNull(Member member, ReservationDetail detail) {
+    private void validateNotNull(Member member, ReservationDetail detail, Long seq) {
         try {
             Objects.requireNonNull(member, "사용자 정보가 존재하지 않습니다.");
             Objects.requireNonNull(detail, "예약 정보가 존재하지 않습니다.");
+            Objects.requireNonNull(seq, "예약 대기 순서가 존재하지 않습니다.");
         } catch (NullPointerException e) {
             throw new BadRequestException(e.getMessage());
         }
@@ -108,12 +113,16 @@ public class ReservationWaiting {
         return detail.getThemeId();
     }
 
+    public Long getSeq() {
+        return seq;
+    }
+
     public LocalDateTime getCreateAt() {
         return createAt;
     }
 
     public String getStatus() {
-        return status;
+        return STATUS;
     }
 
     @Override
@@ -13,6 +13,7 @@ public class ReservationWaitingBuilder {
     private Time time;
     private Theme theme;
     private LocalDate date;
+    private Long seq;
 
     public ReservationWaitingBuilder() {
     }
@@ -47,10 +48,15 @@ public class ReservationWaitingBuilder {
         return this;
     }
 
+    public ReservationWaitingBuilder seq(Long seq) {
+        this.seq = seq;
+        return this;
+    }
+
     public ReservationWaiting build() {
         if (reservationDetail == null) {
-            return new ReservationWaiting(id, member, new ReservationDetail(theme, time, date));
+            return new ReservationWaiting(id, member, new ReservationDetail(theme, time, date), seq);
         }
-        return new ReservationWaiting(id, member, reservationDetail);
+        return new ReservationWaiting(id, member, reservationDetail, seq);
     }
 }
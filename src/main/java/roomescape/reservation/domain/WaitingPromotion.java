@@ -0,0 +1,44 @@
+package roomescape.reservation.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(indexes = @Index(name = "idx_waiting_promotion_detail", columnList = "detail_id"))
+public class WaitingPromotion {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+    @Column(nullable = false, name = "detail_id")
+    private Long detailId;
+    @Column(nullable = false, name = "create_at")
+    private LocalDateTime createAt;
+
+    protected WaitingPromotion() {
+    }
+
+    public WaitingPromotion(Long detailId) {
+        this.detailId = detailId;
+        this.createAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getDetailId() {
+        return detailId;
+    }
+
+    public LocalDateTime getCreateAt() {
+        return createAt;
+    }
+}
@@ -13,25 +13,12 @@ public record MyReservationResponse(
         LocalTime time,
         String status
 ) {
-    public static MyReservationResponse from(Reservation reservation) {
-        return new MyReservationResponse(
-                reservation.getId(),
-                reservation.getTheme()
-                        .getName(),
-                reservation.getDate(),
-                reservation.getTime()
-                        .getStartAt(),
-                reservation.getStatus()
-        );
+    public static MyReservationResponse ofReservation(Long id, String theme, LocalDate date, LocalTime time) {
+        return new MyReservationResponse(id, theme, date, time, Reservation.STATUS);
     }
 
-    public static MyReservationResponse from(ReservationWaiting reservation, long waitingOrder) {
-        return new MyReservationResponse(
-                reservation.getId(),
-                reservation.getTheme().getName(),
-                reservation.getDate(),
-                reservation.getTime().getStartAt(),
-                waitingOrder + "번째 " + reservation.getStatus()
-        );
+    public static MyReservationResponse ofWaiting(Long id, String theme, LocalDate date, LocalTime time,
+                                                  long waitingOrder) {
+        return new MyReservationResponse(id, theme, date, time, waitingOrder + "번째 " + ReservationWaiting.STATUS);
     }
 }
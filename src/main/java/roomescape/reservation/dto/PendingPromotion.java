@@ -0,0 +1,14 @@
+package roomescape.reservation.dto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+public record PendingPromotion(
+        Long id,
+        Long detailId,
+        LocalDateTime createAt
+) {
+    public Duration lagUntil(LocalDateTime now) {
+        return Duration.between(createAt, now);
+    }
+}
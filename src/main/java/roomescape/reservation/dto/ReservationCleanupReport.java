@@ -0,0 +1,9 @@
+package roomescape.reservation.dto;
+
+public record ReservationCleanupReport(
+        long expiredWaitings,
+        long orphanedDetails,
+        long elapsedMillis
+) {
+
+}
@@ -0,0 +1,47 @@
+package roomescape.reservation.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import roomescape.exception.BadRequestException;
+
+public record ReservationCursor(
+        LocalDate date,
+        LocalTime startAt,
+        Long detailId,
+        Long id
+) {
+    private static final String DELIMITER = "|";
+
+    public static ReservationCursor from(ReservationResponse response) {
+        return new ReservationCursor(
+                response.detailResponse().date(),
+                response.detailResponse().time().startAt(),
+                response.detailResponse().id(),
+                response.id());
+    }
+
+    public static ReservationCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split("\\" + DELIMITER);
+            return new ReservationCursor(
+                    LocalDate.parse(values[0]),
+                    LocalTime.parse(values[1]),
+                    Long.parseLong(values[2]),
+                    Long.parseLong(values[3]));
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new BadRequestException("잘못된 페이지 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String value = date + DELIMITER + startAt + DELIMITER + detailId + DELIMITER + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
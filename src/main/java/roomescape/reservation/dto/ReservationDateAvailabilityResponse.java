@@ -0,0 +1,16 @@
+package roomescape.reservation.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record ReservationDateAvailabilityResponse(
+        LocalDate date,
+        boolean available,
+        List<ReservationTimeAvailabilityResponse> times
+) {
+    public static ReservationDateAvailabilityResponse of(LocalDate date, List<ReservationTimeAvailabilityResponse> times) {
+        boolean available = times.stream()
+                .anyMatch(time -> !time.alreadyBooked());
+        return new ReservationDateAvailabilityResponse(date, available, times);
+    }
+}
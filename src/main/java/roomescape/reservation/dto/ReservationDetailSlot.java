@@ -0,0 +1,9 @@
+package roomescape.reservation.dto;
+
+public record ReservationDetailSlot(
+        Long detailId,
+        ReservedSlot slot,
+        boolean reserved
+) {
+
+}
@@ -0,0 +1,36 @@
+package roomescape.reservation.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.springframework.http.MediaType;
+
+import roomescape.exception.BadRequestException;
+
+public enum ReservationExportFormat {
+    NDJSON("ndjson", new MediaType("application", "x-ndjson", StandardCharsets.UTF_8)),
+    CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    ReservationExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public static ReservationExportFormat from(String format) {
+        return Arrays.stream(values())
+                .filter(value -> value.extension.equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("지원하지 않는 내보내기 형식입니다."));
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+}
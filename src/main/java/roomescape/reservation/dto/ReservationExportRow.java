@@ -0,0 +1,14 @@
+package roomescape.reservation.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record ReservationExportRow(
+        Long id,
+        String name,
+        String theme,
+        LocalDate date,
+        LocalTime time
+) {
+
+}
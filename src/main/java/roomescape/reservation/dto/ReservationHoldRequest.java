@@ -0,0 +1,18 @@
+package roomescape.reservation.dto;
+
+import java.time.LocalDate;
+
+import jakarta.validation.constraints.NotNull;
+
+public record ReservationHoldRequest(
+        @NotNull(message = "테마 정보가 입력되지 않았습니다.")
+        Long themeId,
+        @NotNull(message = "시간 정보가 입력되지 않았습니다.")
+        Long timeId,
+        @NotNull(message = "날짜가 선택되지 않습니다.")
+        LocalDate date
+) {
+    public ReservedSlot toSlot() {
+        return new ReservedSlot(themeId, timeId, date);
+    }
+}
@@ -0,0 +1,19 @@
+package roomescape.reservation.dto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+public record ReservationHoldResponse(
+        Long themeId,
+        Long timeId,
+        LocalDate date,
+        Instant expiresAt
+) {
+    public static ReservationHoldResponse of(ReservedSlot slot, long expiresAtMillis) {
+        return new ReservationHoldResponse(
+                slot.themeId(),
+                slot.timeId(),
+                slot.date(),
+                Instant.ofEpochMilli(expiresAtMillis));
+    }
+}
@@ -0,0 +1,16 @@
+package roomescape.reservation.dto;
+
+import java.util.List;
+
+public record ReservationImportResponse(
+        int created,
+        int rejected,
+        List<ReservationImportRowResponse> rows
+) {
+    public static ReservationImportResponse from(List<ReservationImportRowResponse> rows) {
+        int created = (int) rows.stream()
+                .filter(row -> row.reservationId() != null)
+                .count();
+        return new ReservationImportResponse(created, rows.size() - created, rows);
+    }
+}
@@ -0,0 +1,15 @@
+package roomescape.reservation.dto;
+
+public record ReservationImportRowResponse(
+        int row,
+        Long reservationId,
+        String message
+) {
+    public static ReservationImportRowResponse created(int row, Long reservationId) {
+        return new ReservationImportRowResponse(row, reservationId, null);
+    }
+
+    public static ReservationImportRowResponse rejected(int row, String message) {
+        return new ReservationImportRowResponse(row, null, message);
+    }
+}
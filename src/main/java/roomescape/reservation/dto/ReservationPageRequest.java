@@ -0,0 +1,31 @@
+package roomescape.reservation.dto;
+
+import org.springframework.data.domain.Limit;
+
+import roomescape.exception.BadRequestException;
+
+public record ReservationPageRequest(
+        ReservationCursor cursor,
+        int size
+) {
+    public static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 100;
+
+    public static ReservationPageRequest of(String cursor, int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new BadRequestException("페이지 크기는 1 이상 %d 이하여야 합니다.".formatted(MAX_SIZE));
+        }
+        if (cursor == null || cursor.isBlank()) {
+            return new ReservationPageRequest(null, size);
+        }
+        return new ReservationPageRequest(ReservationCursor.decode(cursor), size);
+    }
+
+    public boolean isFirstPage() {
+        return cursor == null;
+    }
+
+    public Limit limitWithNext() {
+        return Limit.of(size + 1);
+    }
+}
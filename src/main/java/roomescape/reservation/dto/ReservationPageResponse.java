@@ -0,0 +1,18 @@
+package roomescape.reservation.dto;
+
+import java.util.List;
+
+public record ReservationPageResponse(
+        List<ReservationResponse> content,
+        String nextCursor
+) {
+    public static ReservationPageResponse of(List<ReservationResponse> responses, int size) {
+        if (responses.size() <= size) {
+            return new ReservationPageResponse(responses, null);
+        }
+
+        List<ReservationResponse> content = responses.subList(0, size);
+        String nextCursor = ReservationCursor.from(content.get(size - 1)).encode();
+        return new ReservationPageResponse(List.copyOf(content), nextCursor);
+    }
+}
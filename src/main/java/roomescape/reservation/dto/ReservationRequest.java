@@ -31,10 +31,11 @@ public record ReservationRequest(
                 .build();
     }
 
-    public ReservationWaiting createReservationWaiting(Member member, ReservationDetail detail) {
+    public ReservationWaiting createReservationWaiting(Member member, ReservationDetail detail, Long seq) {
         return new ReservationWaitingBuilder()
                 .member(member)
                 .reservationDetail(detail)
+                .seq(seq)
                 .build();
     }
 }
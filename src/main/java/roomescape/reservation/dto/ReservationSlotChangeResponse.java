@@ -0,0 +1,5 @@
+package roomescape.reservation.dto;
+
+public record ReservationSlotChangeResponse(long timeId, boolean booked) {
+
+}
@@ -0,0 +1,31 @@
+package roomescape.reservation.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import roomescape.theme.dto.ThemeResponse;
+import roomescape.time.dto.TimeResponse;
+
+public record ReservationTarget(
+        String memberName,
+        Long detailId,
+        LocalDate date,
+        Long timeId,
+        LocalTime startAt,
+        Long themeId,
+        String themeName,
+        String themeDescription,
+        String themeThumbnail
+) {
+    public ReservationResponse toResponse(Long id) {
+        return new ReservationResponse(
+                id,
+                memberName,
+                new ReservationDetailResponse(
+                        detailId,
+                        date,
+                        new TimeResponse(timeId, startAt),
+                        new ThemeResponse(themeId, themeName, themeDescription, themeThumbnail))
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package roomescape.reservation.dto;
+
+import java.time.LocalDate;
+
+public record ReservedSlot(
+        Long themeId,
+        Long timeId,
+        LocalDate date
+) {
+
+}
@@ -0,0 +1,16 @@
+package roomescape.reservation.dto;
+
+import java.util.List;
+
+public record WaitingPromotionBatch(
+        List<PendingPromotion> promotions,
+        int promotedCount
+) {
+    public static WaitingPromotionBatch empty() {
+        return new WaitingPromotionBatch(List.of(), 0);
+    }
+
+    public int size() {
+        return promotions.size();
+    }
+}
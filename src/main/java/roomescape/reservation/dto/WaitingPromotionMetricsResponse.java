@@ -0,0 +1,10 @@
+package roomescape.reservation.dto;
+
+public record WaitingPromotionMetricsResponse(
+        long processedCount,
+        long promotedCount,
+        long lastLagMillis,
+        long maxLagMillis
+) {
+
+}
@@ -0,0 +1,62 @@
+package roomescape.reservation.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import roomescape.reservation.dto.MyReservationResponse;
+
+@Repository
+public class MyReservationRepository {
+    private static final String FIND_ALL_BY_MEMBER_ID = """
+            SELECT r.id, th.name AS theme_name, d.date, ti.start_at,
+                   0 AS waiting_order, CAST(d.date AS TIMESTAMP) AS sort_key, 0 AS kind
+            FROM reservation r
+                INNER JOIN reservation_detail d ON d.id = r.detail_id
+                INNER JOIN theme th ON th.id = d.theme_id
+                INNER JOIN time ti ON ti.id = d.time_id
+            WHERE r.member_id = ?
+            UNION ALL
+            SELECT w.id, th.name AS theme_name, d.date, ti.start_at,
+                   w.waiting_order, w.create_at AS sort_key, 1 AS kind
+            FROM (SELECT id, member_id, detail_id, create_at,
+                         ROW_NUMBER() OVER (PARTITION BY detail_id ORDER BY seq) AS waiting_order
+                  FROM reservation_waiting
+                  WHERE detail_id IN (SELECT detail_id FROM reservation_waiting WHERE member_id = ?)) w
+                INNER JOIN reservation_detail d ON d.id = w.detail_id
+                INNER JOIN theme th ON th.id = d.theme_id
+                INNER JOIN time ti ON ti.id = d.time_id
+            WHERE w.member_id = ?
+            ORDER BY kind, sort_key, id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MyReservationRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<MyReservationResponse> findAllByMemberId(Long memberId) {
+        return jdbcTemplate.query(FIND_ALL_BY_MEMBER_ID,
+                (resultSet, rowNum) -> toResponse(resultSet),
+                memberId, memberId, memberId);
+    }
+
+    private MyReservationResponse toResponse(ResultSet resultSet) throws SQLException {
+        Long id = resultSet.getLong("id");
+        String theme = resultSet.getString("theme_name");
+        LocalDate date = resultSet.getObject("date", LocalDate.class);
+        LocalTime time = resultSet.getObject("start_at", LocalTime.class);
+        long waitingOrder = resultSet.getLong("waiting_order");
+
+        if (waitingOrder == 0) {
+            return MyReservationResponse.ofReservation(id, theme, date, time);
+        }
+        return MyReservationResponse.ofWaiting(id, theme, date, time, waitingOrder);
+    }
+}
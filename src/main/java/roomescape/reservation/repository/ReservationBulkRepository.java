@@ -0,0 +1,106 @@
+package roomescape.reservation.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import roomescape.reservation.dto.ReservationDetailSlot;
+import roomescape.reservation.dto.ReservationRequest;
+import roomescape.reservation.dto.ReservedSlot;
+
+@Repository
+public class ReservationBulkRepository {
+    private static final int BATCH_SIZE = 1_000;
+    private static final int LOOKUP_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReservationBulkRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<ReservationDetailSlot> findDetailSlots(Collection<ReservedSlot> slots) {
+        List<ReservedSlot> keys = List.copyOf(slots);
+        List<ReservationDetailSlot> detailSlots = new ArrayList<>(keys.size());
+        for (int from = 0; from < keys.size(); from += LOOKUP_SIZE) {
+            List<ReservedSlot> chunk = keys.subList(from, Math.min(from + LOOKUP_SIZE, keys.size()));
+            String sql = """
+                    SELECT d.id, d.theme_id, d.time_id, d.date,
+                           EXISTS (SELECT 1 FROM reservation r WHERE r.detail_id = d.id)
+                           OR EXISTS (SELECT 1 FROM waiting_promotion p WHERE p.detail_id = d.id) AS reserved
+                    FROM reservation_detail d
+                    WHERE (d.theme_id, d.time_id, d.date) IN (%s)
+                    """.formatted(String.join(", ", Collections.nCopies(chunk.size(), "(?, ?, ?)")));
+            Object[] args = chunk.stream()
+                    .flatMap(slot -> Stream.of(slot.themeId(), slot.timeId(), slot.date()))
+                    .toArray();
+            detailSlots.addAll(jdbcTemplate.query(sql, (resultSet, rowNum) -> new ReservationDetailSlot(
+                            resultSet.getLong("id"),
+                            new ReservedSlot(
+                                    resultSet.getLong("theme_id"),
+                                    resultSet.getLong("time_id"),
+                                    resultSet.getObject("date", LocalDate.class)),
+                            resultSet.getBoolean("reserved")),
+                    args));
+        }
+        return detailSlots;
+    }
+
+    public List<Long> insertDetails(List<ReservedSlot> slots) {
+        String sql = """
+                INSERT INTO reservation_detail (theme_id, time_id, date, start_at)
+                VALUES (?, ?, ?, (SELECT start_at FROM time WHERE id = ?))
+                """;
+        return batchInsert(sql, slots, (statement, slot) -> {
+            statement.setLong(1, slot.themeId());
+            statement.setLong(2, slot.timeId());
+            statement.setObject(3, slot.date());
+            statement.setLong(4, slot.timeId());
+        });
+    }
+
+    public List<Long> insertReservations(List<ReservationRequest> requests) {
+        String sql = "INSERT INTO reservation (member_id, detail_id) VALUES (?, ?)";
+        return batchInsert(sql, requests, (statement, request) -> {
+            statement.setLong(1, request.memberId());
+            statement.setLong(2, request.detailId());
+        });
+    }
+
+    private <T> List<Long> batchInsert(String sql, List<T> rows, ParameterizedPreparedStatementSetter<T> setter) {
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            List<T> chunk = rows.subList(from, Math.min(from + BATCH_SIZE, rows.size()));
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(sql, new String[]{"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement statement, int index) throws SQLException {
+                            setter.setValues(statement, chunk.get(index));
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return chunk.size();
+                        }
+                    },
+                    keyHolder);
+            keyHolder.getKeyList()
+                    .forEach(keys -> ids.add(((Number) keys.get("id")).longValue()));
+        }
+        return ids;
+    }
+}
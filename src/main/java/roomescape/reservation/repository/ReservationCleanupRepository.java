@@ -0,0 +1,49 @@
+package roomescape.reservation.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class ReservationCleanupRepository {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ReservationCleanupRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<Long> findExpiredWaitingIds(LocalDate today, int limit) {
+        String sql = """
+                SELECT w.id
+                FROM reservation_waiting w
+                    INNER JOIN reservation_detail d ON d.id = w.detail_id
+                WHERE d.date < :today
+                ORDER BY w.id
+                LIMIT :limit
+                """;
+        return jdbcTemplate.queryForList(sql, Map.of("today", today, "limit", limit), Long.class);
+    }
+
+    public int deleteWaitingsByIdIn(Collection<Long> ids) {
+        return jdbcTemplate.update("DELETE FROM reservation_waiting WHERE id IN (:ids)", Map.of("ids", ids));
+    }
+
+    public int deleteOrphanedDetails(LocalDate today, int limit) {
+        String sql = """
+                DELETE FROM reservation_detail
+                WHERE id IN (SELECT d.id
+                             FROM reservation_detail d
+                             WHERE d.date < :today
+                               AND NOT EXISTS (SELECT 1 FROM reservation r WHERE r.detail_id = d.id)
+                               AND NOT EXISTS (SELECT 1 FROM reservation_waiting w WHERE w.detail_id = d.id)
+                               AND NOT EXISTS (SELECT 1 FROM waiting_promotion p WHERE p.detail_id = d.id)
+                             ORDER BY d.id
+                             LIMIT :limit)
+                """;
+        return jdbcTemplate.update(sql, Map.of("today", today, "limit", limit));
+    }
+}
@@ -5,8 +5,11 @@ import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import roomescape.reservation.domain.ReservationDetail;
+import roomescape.reservation.dto.ReservationTarget;
+import roomescape.reservation.dto.ReservedSlot;
 
 public interface ReservationDetailRepository extends JpaRepository<ReservationDetail, Long> {
     int countReservationsByTime_Id(Long timeId);
@@ -17,4 +20,45 @@ public interface ReservationDetailRepository extends JpaRepository<ReservationDe
             WHERE r.date = :date AND r.theme.id = :themeId AND r.time.id = :timeId
             """)
     Optional<Long> findIdByDateAndThemeIdAndTimeId(LocalDate date, Long themeId, Long timeId);
+
+    @Transactional
+    @Query(value = """
+            SELECT id
+            FROM FINAL TABLE (
+                MERGE INTO reservation_detail (theme_id, time_id, date, start_at)
+                KEY (theme_id, time_id, date)
+                VALUES (:themeId, :timeId, :date, (SELECT start_at FROM time WHERE id = :timeId))
+            )
+            """, nativeQuery = true)
+    Long upsertIdByDateAndThemeIdAndTimeId(LocalDate date, Long themeId, Long timeId);
+
+    @Transactional
+    @Query(value = """
+            SELECT waiting_seq
+            FROM FINAL TABLE (
+                UPDATE reservation_detail
+                SET waiting_seq = GREATEST(waiting_seq,
+                    (SELECT COALESCE(MAX(w.seq), 0) FROM reservation_waiting w WHERE w.detail_id = :id)) + 1
+                WHERE id = :id
+            )
+            """, nativeQuery = true)
+    Long nextWaitingSeqById(Long id);
+
+    @Query("""
+            SELECT new roomescape.reservation.dto.ReservedSlot(r.theme.id, r.time.id, r.date)
+            FROM ReservationDetail r
+            WHERE r.id = :id
+            """)
+    Optional<ReservedSlot> findSlotById(Long id);
+
+    @Query("""
+            SELECT new roomescape.reservation.dto.ReservationTarget(
+                m.name, d.id, d.date, t.id, t.startAt, th.id, th.name, th.description, th.thumbnail)
+            FROM ReservationDetail d
+            INNER JOIN d.time t
+            INNER JOIN d.theme th
+            INNER JOIN Member m ON m.id = :memberId
+            WHERE d.id = :detailId
+            """)
+    Optional<ReservationTarget> findReservationTarget(Long memberId, Long detailId);
 }
@@ -0,0 +1,43 @@
+package roomescape.reservation.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import roomescape.reservation.dto.ReservationExportRow;
+
+@Repository
+public class ReservationExportRepository {
+    private static final int FETCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReservationExportRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    public void forEach(Consumer<ReservationExportRow> consumer) {
+        String sql = """
+                SELECT r.id, m.name AS member_name, th.name AS theme_name, d.date, ti.start_at
+                FROM reservation r
+                    INNER JOIN member m ON m.id = r.member_id
+                    INNER JOIN reservation_detail d ON d.id = r.detail_id
+                    INNER JOIN theme th ON th.id = d.theme_id
+                    INNER JOIN time ti ON ti.id = d.time_id
+                ORDER BY r.id
+                """;
+        jdbcTemplate.query(sql, (RowCallbackHandler) resultSet -> consumer.accept(new ReservationExportRow(
+                resultSet.getLong("id"),
+                resultSet.getString("member_name"),
+                resultSet.getString("theme_name"),
+                resultSet.getObject("date", LocalDate.class),
+                resultSet.getObject("start_at", LocalTime.class))));
+    }
+}
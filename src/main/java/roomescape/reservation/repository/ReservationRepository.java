@@ -1,23 +1,51 @@
 package roomescape.reservation.repository;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.dto.ReservationRow;
+import roomescape.reservation.dto.ReservedSlot;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
-    List<Reservation> findAllByOrderByDetailDateAsc();
-
-    List<Reservation> findAllByDetail_Theme_IdAndDetail_Date(Long themeId, LocalDate date);
-
-    List<Reservation> findAllByMember_Id(Long memberId);
-
-    List<Reservation> findAllByMember_IdOrderByDetailDateAsc(Long memberId);
+    @Query("""
+            SELECT new roomescape.reservation.dto.ReservationRow(
+                r.id, m.name, d.id, d.date, d.time.id, d.startAt, th.id, th.name, th.description, th.thumbnail)
+            FROM Reservation r
+                JOIN r.member m
+                JOIN r.detail d
+                JOIN d.theme th
+            ORDER BY d.date, d.startAt, d.id
+            """)
+    List<ReservationRow> findFirstPage(Limit limit);
+
+    @Query("""
+            SELECT new roomescape.reservation.dto.ReservationRow(
+                r.id, m.name, d.id, d.date, d.time.id, d.startAt, th.id, th.name, th.description, th.thumbnail)
+            FROM Reservation r
+                JOIN r.member m
+                JOIN r.detail d
+                JOIN d.theme th
+            WHERE d.date > :date
+               OR (d.date = :date AND d.startAt > :startAt)
+               OR (d.date = :date AND d.startAt = :startAt AND d.id > :detailId)
+            ORDER BY d.date, d.startAt, d.id
+            """)
+    List<ReservationRow> findPageAfter(LocalDate date, LocalTime startAt, Long detailId, Limit limit);
 
     Optional<Reservation> findByDetail_Id(Long detailId);
 
     boolean existsByDetail_Id(Long detailId);
+
+    @Query("""
+            SELECT new roomescape.reservation.dto.ReservedSlot(d.theme.id, d.time.id, d.date)
+            FROM Reservation r INNER JOIN r.detail d
+            """)
+    List<ReservedSlot> findAllReservedSlots();
 }
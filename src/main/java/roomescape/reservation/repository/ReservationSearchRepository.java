@@ -0,0 +1,84 @@
+package roomescape.reservation.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import org.springframework.stereotype.Repository;
+
+import roomescape.member.domain.Member;
+import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.domain.ReservationDetail;
+import roomescape.reservation.dto.ReservationConditionSearchRequest;
+import roomescape.reservation.dto.ReservationCursor;
+import roomescape.reservation.dto.ReservationPageRequest;
+import roomescape.reservation.dto.ReservationRow;
+import roomescape.theme.domain.Theme;
+
+@Repository
+public class ReservationSearchRepository {
+    private final EntityManager entityManager;
+
+    public ReservationSearchRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public List<ReservationRow> search(ReservationConditionSearchRequest condition,
+                                       ReservationPageRequest pageRequest) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ReservationRow> query = builder.createQuery(ReservationRow.class);
+        Root<Reservation> reservation = query.from(Reservation.class);
+        Join<Reservation, Member> member = reservation.join("member");
+        Join<Reservation, ReservationDetail> detail = reservation.join("detail");
+        Join<ReservationDetail, Theme> theme = detail.join("theme");
+
+        Path<Long> detailId = detail.get("id");
+        Path<LocalDate> date = detail.get("date");
+        Path<LocalTime> startAt = detail.get("startAt");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (condition.memberId() != null) {
+            predicates.add(builder.equal(member.get("id"), condition.memberId()));
+        }
+        if (condition.themeId() != null) {
+            predicates.add(builder.equal(theme.get("id"), condition.themeId()));
+        }
+        if (condition.dateFrom() != null) {
+            predicates.add(builder.greaterThanOrEqualTo(date, condition.dateFrom()));
+        }
+        if (condition.dateTo() != null) {
+            predicates.add(builder.lessThanOrEqualTo(date, condition.dateTo()));
+        }
+        if (!pageRequest.isFirstPage()) {
+            predicates.add(after(builder, pageRequest.cursor(), date, startAt, detailId));
+        }
+
+        query.select(builder.construct(ReservationRow.class,
+                        reservation.get("id"), member.get("name"), detailId, date, detail.get("time").get("id"), startAt,
+                        theme.get("id"), theme.get("name"), theme.get("description"), theme.get("thumbnail")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(builder.asc(date), builder.asc(startAt), builder.asc(detailId));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(pageRequest.limitWithNext().max())
+                .getResultList();
+    }
+
+    private Predicate after(CriteriaBuilder builder, ReservationCursor cursor,
+                            Path<LocalDate> date, Path<LocalTime> startAt, Path<Long> detailId) {
+        return builder.or(
+                builder.greaterThan(date, cursor.date()),
+                builder.and(builder.equal(date, cursor.date()), builder.greaterThan(startAt, cursor.startAt())),
+                builder.and(builder.equal(date, cursor.date()), builder.equal(startAt, cursor.startAt()),
+                        builder.greaterThan(detailId, cursor.detailId())));
+    }
+}
@@ -1,22 +1,63 @@
 package roomescape.reservation.repository;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import roomescape.reservation.domain.ReservationWaiting;
+import roomescape.reservation.dto.ReservationRow;
 
 public interface ReservationWaitingRepository extends JpaRepository<ReservationWaiting, Long> {
 
-    List<ReservationWaiting> findAllByMember_IdOrderByDetailDateAsc(Long memberId);
-
-    int countByCreateAtBeforeAndAndDetail_id(LocalDateTime startAt, Long detailId);
-
     Optional<ReservationWaiting> findByMember_IdAndDetail_Id(Long memberId, Long detailId);
 
-    Optional<ReservationWaiting> findFirstByDetail_IdOrderByCreateAtDesc(Long detailId);
-
-    List<ReservationWaiting> findAllByOrderById();
+    @Query("""
+            SELECT d.id
+            FROM ReservationDetail d
+            WHERE EXISTS (SELECT 1 FROM ReservationWaiting w WHERE w.detail = d)
+            ORDER BY d.date, d.startAt, d.id
+            """)
+    List<Long> findFirstDetailIds(Limit limit);
+
+    @Query("""
+            SELECT d.id
+            FROM ReservationDetail d
+            WHERE (d.date > :date
+                   OR (d.date = :date AND d.startAt > :startAt)
+                   OR (d.date = :date AND d.startAt = :startAt AND d.id >= :detailId))
+              AND EXISTS (SELECT 1 FROM ReservationWaiting w WHERE w.detail = d)
+            ORDER BY d.date, d.startAt, d.id
+            """)
+    List<Long> findDetailIdsFrom(LocalDate date, LocalTime startAt, Long detailId, Limit limit);
+
+    @Query("""
+            SELECT new roomescape.reservation.dto.ReservationRow(
+                w.id, m.name, d.id, d.date, d.time.id, d.startAt, th.id, th.name, th.description, th.thumbnail)
+            FROM ReservationWaiting w
+                JOIN w.member m
+                JOIN w.detail d
+                JOIN d.theme th
+            WHERE d.id IN :detailIds
+            ORDER BY d.date, d.startAt, d.id, w.id
+            """)
+    List<ReservationRow> findPageIn(Collection<Long> detailIds, Limit limit);
+
+    @Query("""
+            SELECT new roomescape.reservation.dto.ReservationRow(
+                w.id, m.name, d.id, d.date, d.time.id, d.startAt, th.id, th.name, th.description, th.thumbnail)
+            FROM ReservationWaiting w
+                JOIN w.member m
+                JOIN w.detail d
+                JOIN d.theme th
+            WHERE d.id IN :detailIds
+              AND (d.id <> :detailId OR w.id > :id)
+            ORDER BY d.date, d.startAt, d.id, w.id
+            """)
+    List<ReservationRow> findPageAfterIn(Collection<Long> detailIds, Long detailId, Long id, Limit limit);
 }
@@ -0,0 +1,75 @@
+package roomescape.reservation.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import roomescape.reservation.dto.PendingPromotion;
+import roomescape.reservation.dto.ReservedSlot;
+
+@Repository
+public class WaitingPromotionBatchRepository {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public WaitingPromotionBatchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<PendingPromotion> findPending(int limit) {
+        String sql = """
+                SELECT id, detail_id, create_at
+                FROM waiting_promotion
+                ORDER BY id
+                LIMIT :limit
+                """;
+        return jdbcTemplate.query(sql, Map.of("limit", limit), (resultSet, rowNum) -> new PendingPromotion(
+                resultSet.getLong("id"),
+                resultSet.getLong("detail_id"),
+                resultSet.getObject("create_at", LocalDateTime.class)));
+    }
+
+    public List<Long> findFirstWaitingIds(Collection<Long> detailIds) {
+        String sql = """
+                SELECT w.id
+                FROM reservation_waiting w
+                WHERE w.detail_id IN (:detailIds)
+                  AND w.seq = (SELECT MIN(f.seq) FROM reservation_waiting f WHERE f.detail_id = w.detail_id)
+                  AND NOT EXISTS (SELECT 1 FROM reservation r WHERE r.detail_id = w.detail_id)
+                """;
+        return jdbcTemplate.queryForList(sql, Map.of("detailIds", detailIds), Long.class);
+    }
+
+    public int promote(Collection<Long> waitingIds) {
+        Map<String, Collection<Long>> parameters = Map.of("waitingIds", waitingIds);
+        int promoted = jdbcTemplate.update("""
+                INSERT INTO reservation (member_id, detail_id)
+                SELECT member_id, detail_id
+                FROM reservation_waiting
+                WHERE id IN (:waitingIds)
+                """, parameters);
+        jdbcTemplate.update("DELETE FROM reservation_waiting WHERE id IN (:waitingIds)", parameters);
+        return promoted;
+    }
+
+    public List<ReservedSlot> findVacantSlots(Collection<Long> detailIds) {
+        String sql = """
+                SELECT d.theme_id, d.time_id, d.date
+                FROM reservation_detail d
+                WHERE d.id IN (:detailIds)
+                  AND NOT EXISTS (SELECT 1 FROM reservation r WHERE r.detail_id = d.id)
+                """;
+        return jdbcTemplate.query(sql, Map.of("detailIds", detailIds), (resultSet, rowNum) -> new ReservedSlot(
+                resultSet.getLong("theme_id"),
+                resultSet.getLong("time_id"),
+                resultSet.getObject("date", LocalDate.class)));
+    }
+
+    public void deleteAllByIdIn(Collection<Long> ids) {
+        jdbcTemplate.update("DELETE FROM waiting_promotion WHERE id IN (:ids)", Map.of("ids", ids));
+    }
+}
@@ -0,0 +1,9 @@
+package roomescape.reservation.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import roomescape.reservation.domain.WaitingPromotion;
+
+public interface WaitingPromotionRepository extends JpaRepository<WaitingPromotion, Long> {
+    boolean existsByDetailId(Long detailId);
+}
@@ -0,0 +1,150 @@
+package roomescape.reservation.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class HierarchicalTimingWheel<T> {
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVEL_COUNT = 4;
+    private static final long MAX_DELAY_TICKS = (1L << (WHEEL_BITS * LEVEL_COUNT)) - 1;
+
+    private final long tickMillis;
+    private final Bucket<T>[][] levels;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.levels = new Bucket[LEVEL_COUNT][WHEEL_SIZE];
+        for (Bucket<T>[] level : levels) {
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                level[i] = new Bucket<>();
+            }
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    public synchronized Timeout<T> schedule(T value, long deadlineMillis) {
+        long deadlineTick = Math.max(ceilDiv(deadlineMillis, tickMillis), currentTick + 1);
+        Timeout<T> timeout = new Timeout<>(value, deadlineTick);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    public synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout == null || timeout.bucket == null) {
+            return false;
+        }
+        timeout.bucket.remove(timeout);
+        size--;
+        return true;
+    }
+
+    public synchronized List<T> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<T> expired = new ArrayList<>();
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            Timeout<T> timeout = levels[0][(int) (currentTick & WHEEL_MASK)].clear();
+            while (timeout != null) {
+                expired.add(timeout.value);
+                timeout = timeout.next;
+                size--;
+            }
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void cascade() {
+        int highestLevel = 0;
+        while (highestLevel + 1 < LEVEL_COUNT
+               && (currentTick & ((1L << (WHEEL_BITS * (highestLevel + 1))) - 1)) == 0) {
+            highestLevel++;
+        }
+        for (int level = highestLevel; level > 0; level--) {
+            Timeout<T> timeout = levels[level][indexOf(currentTick, level)].clear();
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                place(timeout);
+                timeout = next;
+            }
+        }
+    }
+
+    private void place(Timeout<T> timeout) {
+        long delay = Math.min(timeout.deadlineTick - currentTick, MAX_DELAY_TICKS);
+        int level = 0;
+        while (level + 1 < LEVEL_COUNT && delay >= (1L << (WHEEL_BITS * (level + 1)))) {
+            level++;
+        }
+        long tick = delay == timeout.deadlineTick - currentTick ? timeout.deadlineTick : currentTick + delay;
+        levels[level][indexOf(tick, level)].add(timeout);
+    }
+
+    private static int indexOf(long tick, int level) {
+        return (int) ((tick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+
+    private static final class Bucket<T> {
+        private Timeout<T> head;
+
+        void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.prev = null;
+            timeout.next = head;
+            if (head != null) {
+                head.prev = timeout;
+            }
+            head = timeout;
+        }
+
+        void remove(Timeout<T> timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        Timeout<T> clear() {
+            Timeout<T> timeout = head;
+            head = null;
+            for (Timeout<T> current = timeout; current != null; current = current.next) {
+                current.bucket = null;
+            }
+            return timeout;
+        }
+    }
+
+    public static final class Timeout<T> {
+        private final T value;
+        private final long deadlineTick;
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(T value, long deadlineTick) {
+            this.value = value;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package roomescape.reservation.service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import roomescape.reservation.dto.ReservationDateAvailabilityResponse;
+import roomescape.reservation.dto.ReservationTimeAvailabilityResponse;
+import roomescape.reservation.dto.ReservedSlot;
+import roomescape.reservation.repository.ReservationRepository;
+import roomescape.time.domain.Time;
+import roomescape.time.repository.TimeRepository;
+import roomescape.version.AggregateType;
+import roomescape.version.AggregateVersionRegistry;
+
+@Component
+public class ReservationAvailabilityIndex {
+    private static final BitSet EMPTY = new BitSet();
+
+    private final TimeRepository timeRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReservationSlotChangeHub slotChangeHub;
+    private final AggregateVersionRegistry versionRegistry;
+
+    private volatile TimeSlot[] timeSlots = new TimeSlot[0];
+    private volatile ConcurrentMap<SlotKey, BitSet> occupancy = new ConcurrentHashMap<>();
+
+    public ReservationAvailabilityIndex(TimeRepository timeRepository,
+                                        ReservationRepository reservationRepository,
+                                        ReservationSlotChangeHub slotChangeHub,
+                                        AggregateVersionRegistry versionRegistry) {
+        this.timeRepository = timeRepository;
+        this.reservationRepository = reservationRepository;
+        this.slotChangeHub = slotChangeHub;
+        this.versionRegistry = versionRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        TimeSlot[] loadedTimeSlots = timeRepository.findAllByOrderByStartAtAsc()
+                .stream()
+                .map(TimeSlot::from)
+                .toArray(TimeSlot[]::new);
+
+        ConcurrentMap<SlotKey, BitSet> loadedOccupancy = new ConcurrentHashMap<>();
+        for (ReservedSlot slot : reservationRepository.findAllReservedSlots()) {
+            loadedOccupancy.computeIfAbsent(SlotKey.of(slot.themeId(), slot.date()), key -> new BitSet())
+                    .set(toBitIndex(slot.timeId()));
+        }
+
+        this.timeSlots = loadedTimeSlots;
+        this.occupancy = loadedOccupancy;
+        versionRegistry.increase(AggregateType.TIME);
+        versionRegistry.increase(AggregateType.RESERVATION);
+    }
+
+    public List<ReservationTimeAvailabilityResponse> findTimeAvailability(long themeId, LocalDate date) {
+        return toTimeAvailability(timeSlots, occupancy.getOrDefault(SlotKey.of(themeId, date), EMPTY));
+    }
+
+    public List<ReservationDateAvailabilityResponse> findDateAvailability(long themeId, LocalDate from, LocalDate to) {
+        TimeSlot[] slots = timeSlots;
+        ConcurrentMap<SlotKey, BitSet> currentOccupancy = occupancy;
+
+        List<ReservationDateAvailabilityResponse> responses = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            BitSet booked = currentOccupancy.getOrDefault(SlotKey.of(themeId, date), EMPTY);
+            responses.add(ReservationDateAvailabilityResponse.of(date, toTimeAvailability(slots, booked)));
+        }
+        return responses;
+    }
+
+    private List<ReservationTimeAvailabilityResponse> toTimeAvailability(TimeSlot[] slots, BitSet booked) {
+        List<ReservationTimeAvailabilityResponse> responses = new ArrayList<>(slots.length);
+        for (TimeSlot slot : slots) {
+            responses.add(new ReservationTimeAvailabilityResponse(
+                    slot.id(), slot.startAt(), booked.get(toBitIndex(slot.id()))));
+        }
+        return responses;
+    }
+
+    public boolean isBooked(long themeId, long timeId, LocalDate date) {
+        return occupancy.getOrDefault(SlotKey.of(themeId, date), EMPTY)
+                .get(toBitIndex(timeId));
+    }
+
+    public void book(ReservedSlot slot) {
+        afterCommit(() -> {
+            occupancy.compute(SlotKey.of(slot.themeId(), slot.date()), (key, booked) -> {
+                BitSet updated = booked == null ? new BitSet() : (BitSet) booked.clone();
+                updated.set(toBitIndex(slot.timeId()));
+                return updated;
+            });
+            versionRegistry.increase(AggregateType.RESERVATION);
+            slotChangeHub.publish(slot.themeId(), slot.date(), slot.timeId(), true);
+        });
+    }
+
+    public void release(ReservedSlot slot) {
+        afterCommit(() -> {
+            occupancy.computeIfPresent(SlotKey.of(slot.themeId(), slot.date()), (key, booked) -> {
+                BitSet updated = (BitSet) booked.clone();
+                updated.clear(toBitIndex(slot.timeId()));
+                return updated.isEmpty() ? null : updated;
+            });
+            versionRegistry.increase(AggregateType.RESERVATION);
+            slotChangeHub.publish(slot.themeId(), slot.date(), slot.timeId(), false);
+        });
+    }
+
+    public void addTime(long timeId, LocalTime startAt) {
+        afterCommit(() -> updateTimeSlots(timeId, startAt));
+    }
+
+    public void removeTime(long timeId) {
+        afterCommit(() -> updateTimeSlots(timeId, null));
+    }
+
+    private synchronized void updateTimeSlots(long timeId, LocalTime startAt) {
+        TimeSlot[] updated = Arrays.stream(timeSlots)
+                .filter(slot -> slot.id() != timeId)
+                .toArray(TimeSlot[]::new);
+        if (startAt != null) {
+            updated = Arrays.copyOf(updated, updated.length + 1);
+            updated[updated.length - 1] = new TimeSlot(timeId, startAt);
+            Arrays.sort(updated, Comparator.comparing(TimeSlot::startAt));
+        }
+        this.timeSlots = updated;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static int toBitIndex(long timeId) {
+        return Math.toIntExact(timeId);
+    }
+
+    private record SlotKey(long themeId, long epochDay) {
+        static SlotKey of(long themeId, LocalDate date) {
+            return new SlotKey(themeId, date.toEpochDay());
+        }
+    }
+
+    private record TimeSlot(long id, LocalTime startAt) {
+        static TimeSlot from(Time time) {
+            return new TimeSlot(time.getId(), time.getStartAt());
+        }
+    }
+}
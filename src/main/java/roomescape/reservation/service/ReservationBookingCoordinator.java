@@ -0,0 +1,65 @@
+package roomescape.reservation.service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import roomescape.reservation.dto.ReservationCreateRequest;
+
+@Component
+public class ReservationBookingCoordinator {
+    private static final int STRIPE_COUNT = 128;
+
+    private final Lock[] stripes;
+
+    public ReservationBookingCoordinator() {
+        this(STRIPE_COUNT);
+    }
+
+    ReservationBookingCoordinator(int stripeCount) {
+        this.stripes = new Lock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public <T> T coordinate(ReservationCreateRequest request, Supplier<T> booking) {
+        Lock lock = stripes[stripeOf(request)];
+        lock.lock();
+        try {
+            return booking.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public <T> T coordinateAll(List<ReservationCreateRequest> requests, Supplier<T> booking) {
+        int[] stripeIndexes = requests.stream()
+                .filter(Objects::nonNull)
+                .mapToInt(this::stripeOf)
+                .distinct()
+                .sorted()
+                .toArray();
+        int lockedCount = 0;
+        try {
+            for (int stripeIndex : stripeIndexes) {
+                stripes[stripeIndex].lock();
+                lockedCount++;
+            }
+            return booking.get();
+        } finally {
+            for (int i = lockedCount - 1; i >= 0; i--) {
+                stripes[stripeIndexes[i]].unlock();
+            }
+        }
+    }
+
+    private int stripeOf(ReservationCreateRequest request) {
+        int hash = Objects.hash(request.themeId(), request.timeId(), request.date());
+        return Math.floorMod(hash ^ (hash >>> 16), stripes.length);
+    }
+}
@@ -0,0 +1,33 @@
+package roomescape.reservation.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import roomescape.reservation.repository.ReservationCleanupRepository;
+
+@Service
+public class ReservationCleanupService {
+    private final ReservationCleanupRepository cleanupRepository;
+
+    public ReservationCleanupService(ReservationCleanupRepository cleanupRepository) {
+        this.cleanupRepository = cleanupRepository;
+    }
+
+    @Transactional
+    public int deleteExpiredWaitings(LocalDate today, int batchSize) {
+        List<Long> waitingIds = cleanupRepository.findExpiredWaitingIds(today, batchSize);
+        if (waitingIds.isEmpty()) {
+            return 0;
+        }
+
+        return cleanupRepository.deleteWaitingsByIdIn(waitingIds);
+    }
+
+    @Transactional
+    public int deleteOrphanedDetails(LocalDate today, int batchSize) {
+        return cleanupRepository.deleteOrphanedDetails(today, batchSize);
+    }
+}
@@ -1,56 +1,49 @@
 package roomescape.reservation.service;
 
 import java.time.LocalDate;
-import java.util.Optional;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import roomescape.exception.BadRequestException;
-import roomescape.reservation.domain.ReservationDetail;
 import roomescape.reservation.dto.ReservationCreateRequest;
-import roomescape.reservation.dto.ReservationDetailResponse;
 import roomescape.reservation.repository.ReservationDetailRepository;
-import roomescape.theme.domain.Theme;
 import roomescape.theme.repository.ThemeRepository;
-import roomescape.time.domain.Time;
 import roomescape.time.repository.TimeRepository;
 
 @Service
 public class ReservationDetailService {
     private final ReservationDetailRepository detailRepository;
-    private final TimeRepository timeRepository;
     private final ThemeRepository themeRepository;
+    private final TimeRepository timeRepository;
 
-    public ReservationDetailService(ReservationDetailRepository detailRepository, TimeRepository timeRepository, ThemeRepository themeRepository) {
+    public ReservationDetailService(ReservationDetailRepository detailRepository,
+                                    ThemeRepository themeRepository,
+                                    TimeRepository timeRepository) {
         this.detailRepository = detailRepository;
-        this.timeRepository = timeRepository;
         this.themeRepository = themeRepository;
+        this.timeRepository = timeRepository;
     }
 
     public Long findReservationDetailId(ReservationCreateRequest request) {
-        Optional<Long> id = detailRepository.findIdByDateAndThemeIdAndTimeId(
-                request.date(),
-                request.themeId(),
-                request.timeId());
-
-        return id.orElseGet(() -> addReservationDetail(request).id());
-    }
+        if (request.isBeforeDate(LocalDate.now())) {
+            throw new BadRequestException("지난 날짜의 예약을 시도하였습니다.");
+        }
 
-    private ReservationDetailResponse addReservationDetail(ReservationCreateRequest reservationRequest) {
-        ReservationDetail reservation = toReservationDetail(reservationRequest);
-        ReservationDetail detail = detailRepository.save(reservation);
-        return ReservationDetailResponse.from(detail);
+        try {
+            return detailRepository.upsertIdByDateAndThemeIdAndTimeId(
+                    request.date(),
+                    request.themeId(),
+                    request.timeId());
+        } catch (DataIntegrityViolationException e) {
+            validateThemeAndTimeExist(request);
+            throw e;
+        }
     }
 
-    private ReservationDetail toReservationDetail(ReservationCreateRequest reservationRequest) {
-        Theme theme = themeRepository.findById(reservationRequest.themeId())
-                .orElseThrow(() -> new BadRequestException("선택하신 테마가 존재하지 않습니다."));
-        Time time = timeRepository.findById(reservationRequest.timeId())
-                .orElseThrow(() -> new BadRequestException("해당 예약 시간이 존재하지 않습니다."));
-        if (reservationRequest.isBeforeDate(LocalDate.now())) {
-            throw new BadRequestException("지난 날짜의 예약을 시도하였습니다.");
+    private void validateThemeAndTimeExist(ReservationCreateRequest request) {
+        if (!themeRepository.existsById(request.themeId()) || !timeRepository.existsById(request.timeId())) {
+            throw new BadRequestException("선택하신 테마 또는 예약 시간이 존재하지 않습니다.");
         }
-
-        return reservationRequest.createReservationDetail(theme, time);
     }
 }
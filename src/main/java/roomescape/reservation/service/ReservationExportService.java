@@ -0,0 +1,91 @@
+package roomescape.reservation.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import roomescape.reservation.dto.ReservationExportFormat;
+import roomescape.reservation.dto.ReservationExportRow;
+import roomescape.reservation.repository.ReservationExportRepository;
+
+@Service
+public class ReservationExportService {
+    private static final int FLUSH_INTERVAL = 1_000;
+    private static final String CSV_HEADER = "id,name,theme,date,time";
+
+    private final ReservationExportRepository exportRepository;
+    private final ObjectMapper objectMapper;
+
+    public ReservationExportService(ReservationExportRepository exportRepository, ObjectMapper objectMapper) {
+        this.exportRepository = exportRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public void export(ReservationExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ReservationExportFormat.CSV) {
+            writeLine(writer, CSV_HEADER);
+        }
+
+        int[] written = {0};
+        try {
+            exportRepository.forEach(row -> {
+                writeLine(writer, toLine(format, row));
+                if (++written[0] % FLUSH_INTERVAL == 0) {
+                    flush(writer);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private String toLine(ReservationExportFormat format, ReservationExportRow row) {
+        if (format == ReservationExportFormat.CSV) {
+            return String.join(",",
+                    String.valueOf(row.id()),
+                    escapeCsv(row.name()),
+                    escapeCsv(row.theme()),
+                    row.date().toString(),
+                    row.time().toString());
+        }
+        try {
+            return objectMapper.writeValueAsString(row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String escapeCsv(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private void writeLine(Writer writer, String line) {
+        try {
+            writer.write(line);
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flush(Writer writer) {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
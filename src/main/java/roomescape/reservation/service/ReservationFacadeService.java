@@ -1,93 +1,178 @@
 package roomescape.reservation.service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import roomescape.member.dto.MemberProfileInfo;
 import roomescape.reservation.dto.MyReservationResponse;
 import roomescape.reservation.dto.ReservationConditionSearchRequest;
 import roomescape.reservation.dto.ReservationCreateRequest;
+import roomescape.reservation.dto.ReservationDateAvailabilityResponse;
+import roomescape.reservation.dto.ReservationExportFormat;
+import roomescape.reservation.dto.ReservationHoldRequest;
+import roomescape.reservation.dto.ReservationHoldResponse;
+import roomescape.reservation.dto.ReservationImportResponse;
+import roomescape.reservation.dto.ReservationPageRequest;
+import roomescape.reservation.dto.ReservationPageResponse;
 import roomescape.reservation.dto.ReservationRequest;
 import roomescape.reservation.dto.ReservationResponse;
 import roomescape.reservation.dto.ReservationTimeAvailabilityResponse;
+import roomescape.reservation.dto.ReservedSlot;
+import roomescape.reservation.dto.WaitingPromotionMetricsResponse;
+import roomescape.reservation.service.ReservationIdempotencyStore.Operation;
 
 @Service
 public class ReservationFacadeService {
     private final ReservationDetailService reservationDetailService;
     private final ReservationService reservationService;
     private final ReservationWaitingService waitingService;
+    private final ReservationAvailabilityIndex availabilityIndex;
+    private final ReservationSlotChangeHub slotChangeHub;
+    private final ReservationBookingCoordinator bookingCoordinator;
+    private final ReservationImportService importService;
+    private final ReservationIdempotencyStore idempotencyStore;
+    private final ReservationHoldRegistry holdRegistry;
+    private final WaitingPromoter waitingPromoter;
+    private final ReservationExportService exportService;
 
     public ReservationFacadeService(ReservationDetailService reservationDetailService,
                                     ReservationService reservationService,
-                                    ReservationWaitingService waitingService) {
+                                    ReservationWaitingService waitingService,
+                                    ReservationAvailabilityIndex availabilityIndex,
+                                    ReservationSlotChangeHub slotChangeHub,
+                                    ReservationBookingCoordinator bookingCoordinator,
+                                    ReservationImportService importService,
+                                    ReservationIdempotencyStore idempotencyStore,
+                                    ReservationHoldRegistry holdRegistry,
+                                    WaitingPromoter waitingPromoter,
+                                    ReservationExportService exportService) {
         this.reservationDetailService = reservationDetailService;
         this.reservationService = reservationService;
         this.waitingService = waitingService;
+        this.availabilityIndex = availabilityIndex;
+        this.slotChangeHub = slotChangeHub;
+        this.bookingCoordinator = bookingCoordinator;
+        this.importService = importService;
+        this.idempotencyStore = idempotencyStore;
+        this.holdRegistry = holdRegistry;
+        this.waitingPromoter = waitingPromoter;
+        this.exportService = exportService;
     }
 
-    public List<ReservationResponse> findReservations() {
-        return reservationService.findReservations();
+    public ReservationPageResponse findReservations(ReservationPageRequest pageRequest) {
+        return reservationService.findReservations(pageRequest);
     }
 
-    public List<ReservationResponse> findReservationWaitings() {
-        return waitingService.findReservationWaitings();
+    public ReservationPageResponse findReservationWaitings(ReservationPageRequest pageRequest) {
+        return waitingService.findReservationWaitings(pageRequest);
     }
 
-    public List<MyReservationResponse> findReservationsByMember(MemberProfileInfo memberProfileInfo) {
-        List<MyReservationResponse> reservationResponse = reservationService.findReservationByMemberId(memberProfileInfo.id());
-        List<MyReservationResponse> waitingResponse = waitingService.findReservationWaitingByMemberId(memberProfileInfo.id());
-
-        List<MyReservationResponse> response = new ArrayList<>();
-        response.addAll(reservationResponse);
-        response.addAll(waitingResponse);
+    public void exportReservations(ReservationExportFormat format, OutputStream outputStream) throws IOException {
+        exportService.export(format, outputStream);
+    }
 
-        return response;
+    public List<MyReservationResponse> findReservationsByMember(MemberProfileInfo memberProfileInfo) {
+        return reservationService.findMyReservations(memberProfileInfo.id());
     }
 
     public List<ReservationTimeAvailabilityResponse> findReservationTimes(long themeId, LocalDate date) {
         return reservationService.findTimeAvailability(themeId, date);
     }
 
-    public List<ReservationResponse> findReservationsInCondition(ReservationConditionSearchRequest request) {
-        return reservationService.findReservationsByConditions(request);
+    public SseEmitter subscribeReservationTimes(long themeId, LocalDate date) {
+        return slotChangeHub.subscribe(themeId, date, () -> reservationService.findTimeAvailability(themeId, date));
+    }
+
+    public ReservationHoldResponse holdReservationTime(MemberProfileInfo memberProfileInfo,
+                                                       ReservationHoldRequest request) {
+        return holdRegistry.hold(memberProfileInfo.id(), request.toSlot());
+    }
+
+    public void releaseReservationTime(MemberProfileInfo memberProfileInfo, ReservationHoldRequest request) {
+        holdRegistry.release(memberProfileInfo.id(), request.toSlot());
+    }
+
+    public List<ReservationDateAvailabilityResponse> findReservationAvailability(long themeId,
+                                                                                LocalDate from,
+                                                                                LocalDate to) {
+        return reservationService.findDateAvailability(themeId, from, to);
+    }
+
+    public ReservationPageResponse findReservationsInCondition(ReservationConditionSearchRequest request,
+                                                               ReservationPageRequest pageRequest) {
+        return reservationService.findReservationsByConditions(request, pageRequest);
+    }
+
+    public ReservationResponse createReservation(ReservationCreateRequest request, String idempotencyKey) {
+        return idempotencyStore.execute(Operation.RESERVATION, idempotencyKey, request,
+                () -> createReservation(request));
     }
 
     public ReservationResponse createReservation(ReservationCreateRequest request) {
-        Long detailId = reservationDetailService.findReservationDetailId(request);
-        ReservationRequest reservationRequest = new ReservationRequest(request.memberId(), detailId);
-        return reservationService.addReservation(reservationRequest);
+        return bookingCoordinator.coordinate(request, () -> {
+            ReservedSlot slot = new ReservedSlot(request.themeId(), request.timeId(), request.date());
+            holdRegistry.validateNotHeldByOther(request.memberId(), slot);
+
+            Long detailId = reservationDetailService.findReservationDetailId(request);
+            waitingPromoter.validateNotPromoting(detailId);
+            ReservationRequest reservationRequest = new ReservationRequest(request.memberId(), detailId);
+            ReservationResponse response = reservationService.addReservation(reservationRequest);
+
+            holdRegistry.consume(request.memberId(), slot);
+            availabilityIndex.book(slot);
+            return response;
+        });
     }
 
-    public ReservationResponse createWaitingReservation(ReservationCreateRequest request) {
-        Long detailId = reservationDetailService.findReservationDetailId(request);
-        ReservationRequest reservationRequest = new ReservationRequest(request.memberId(), detailId);
+    public ReservationImportResponse importJsonReservations(InputStream inputStream) throws IOException {
+        return importReservations(importService.readJsonArray(inputStream));
+    }
+
+    public ReservationImportResponse importNdjsonReservations(InputStream inputStream) throws IOException {
+        return importReservations(importService.readNdjson(inputStream));
+    }
+
+    public ReservationImportResponse importReservations(List<ReservationCreateRequest> requests) {
+        importService.validateImportSize(requests);
 
-        validateWaitingReservation(reservationRequest);
+        return bookingCoordinator.coordinateAll(requests, () -> importService.importReservations(requests));
+    }
 
-        return waitingService.addReservationWaiting(reservationRequest);
+    public ReservationResponse createWaitingReservation(ReservationCreateRequest request, String idempotencyKey) {
+        return idempotencyStore.execute(Operation.WAITING, idempotencyKey, request,
+                () -> createWaitingReservation(request));
     }
 
-    private void validateWaitingReservation(ReservationRequest request) {
-        reservationService.checkExistsReservation(request.detailId());
-        waitingService.checkExistsReservationWaiting(request);
+    public ReservationResponse createWaitingReservation(ReservationCreateRequest request) {
+        return bookingCoordinator.coordinate(request, () -> {
+            Long detailId = reservationDetailService.findReservationDetailId(request);
+            ReservationRequest reservationRequest = new ReservationRequest(request.memberId(), detailId);
+
+            reservationService.checkExistsReservation(reservationRequest.detailId());
 
+            return waitingService.addReservationWaiting(reservationRequest);
+        });
     }
 
     @Transactional
     public void deleteReservation(long id) {
         ReservationRequest reservation = reservationService.findReservation(id);
         reservationService.deleteReservation(id);
-
-        Optional<ReservationRequest> newReservation = waitingService.findFirstByDetailId(reservation.detailId());
-        newReservation.ifPresent(reservationService::addReservation);
+        waitingPromoter.request(reservation.detailId());
     }
 
     public void deleteReservationWaiting(long id) {
         waitingService.removeReservations(id);
     }
+
+    public WaitingPromotionMetricsResponse findPromotionMetrics() {
+        return waitingPromoter.metrics();
+    }
 }
@@ -0,0 +1,242 @@
+package roomescape.reservation.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import roomescape.exception.BadRequestException;
+import roomescape.exception.ConflictException;
+import roomescape.exception.ServiceUnavailableException;
+import roomescape.reservation.dto.ReservationHoldResponse;
+import roomescape.reservation.dto.ReservedSlot;
+import roomescape.theme.repository.ThemeRepository;
+import roomescape.time.repository.TimeRepository;
+import roomescape.version.AggregateType;
+import roomescape.version.AggregateVersionRegistry;
+
+@Component
+public class ReservationHoldRegistry {
+    private static final long HOLD_MILLIS = Duration.ofMinutes(5).toMillis();
+    private static final long TICK_MILLIS = Duration.ofSeconds(1).toMillis();
+    private static final long RENEW_INTERVAL_MILLIS = Duration.ofSeconds(30).toMillis();
+    private static final int MAX_HOLDS_PER_MEMBER = 3;
+    private static final int MAX_LIVE_HOLDS = 50_000;
+
+    private final Logger logger = LoggerFactory.getLogger(ReservationHoldRegistry.class.getName());
+    private final ReservationAvailabilityIndex availabilityIndex;
+    private final ReservationSlotChangeHub slotChangeHub;
+    private final AggregateVersionRegistry versionRegistry;
+    private final ThemeRepository themeRepository;
+    private final TimeRepository timeRepository;
+    private final ConcurrentMap<ReservedSlot, Hold> holds = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Set<ReservedSlot>> memberHolds = new ConcurrentHashMap<>();
+    private final HierarchicalTimingWheel<Hold> timingWheel
+            = new HierarchicalTimingWheel<>(TICK_MILLIS, System.currentTimeMillis());
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "reservation-hold-ticker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReservationHoldRegistry(ReservationAvailabilityIndex availabilityIndex,
+                                   ReservationSlotChangeHub slotChangeHub,
+                                   AggregateVersionRegistry versionRegistry,
+                                   ThemeRepository themeRepository,
+                                   TimeRepository timeRepository) {
+        this.availabilityIndex = availabilityIndex;
+        this.slotChangeHub = slotChangeHub;
+        this.versionRegistry = versionRegistry;
+        this.themeRepository = themeRepository;
+        this.timeRepository = timeRepository;
+        ticker.scheduleAtFixedRate(this::expireQuietly, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public ReservationHoldResponse hold(Long memberId, ReservedSlot slot) {
+        validateBookable(slot);
+        if (availabilityIndex.isBooked(slot.themeId(), slot.timeId(), slot.date())) {
+            throw new ConflictException("이미 예약된 시간입니다.");
+        }
+
+        long now = System.currentTimeMillis();
+        Hold created = new Hold(memberId, slot, now + HOLD_MILLIS);
+        Hold current = holds.compute(slot, (key, previous) -> {
+            if (previous != null && !previous.isExpired(now)
+                && (!previous.isOwnedBy(memberId) || !previous.isRenewableAt(now))) {
+                return previous;
+            }
+            if (previous == null && holds.size() >= MAX_LIVE_HOLDS) {
+                throw new ServiceUnavailableException("예약 진행 중인 시간이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            }
+            if (previous == null || !previous.isOwnedBy(memberId)) {
+                acquireQuota(memberId, slot);
+            }
+            if (previous != null) {
+                timingWheel.cancel(previous.timeout);
+                if (!previous.isOwnedBy(memberId)) {
+                    releaseQuota(previous);
+                }
+            }
+            created.timeout = timingWheel.schedule(created, created.expiresAt());
+            return created;
+        });
+        if (!current.isOwnedBy(memberId)) {
+            throw new ConflictException("다른 사용자가 예약 중인 시간입니다.");
+        }
+        if (current == created) {
+            changed(slot, true);
+        }
+        return ReservationHoldResponse.of(slot, current.expiresAt());
+    }
+
+    public void release(Long memberId, ReservedSlot slot) {
+        if (remove(memberId, slot)) {
+            changed(slot, availabilityIndex.isBooked(slot.themeId(), slot.timeId(), slot.date()));
+        }
+    }
+
+    public void consume(Long memberId, ReservedSlot slot) {
+        remove(memberId, slot);
+    }
+
+    public void validateNotHeldByOther(Long memberId, ReservedSlot slot) {
+        if (isHeldByOther(memberId, slot)) {
+            throw new ConflictException("다른 사용자가 예약 중인 시간입니다.");
+        }
+    }
+
+    public boolean isHeldByOther(Long memberId, ReservedSlot slot) {
+        Hold hold = holds.get(slot);
+        return hold != null && !hold.isOwnedBy(memberId) && !hold.isExpired(System.currentTimeMillis());
+    }
+
+    public boolean isHeld(long themeId, long timeId, LocalDate date) {
+        Hold hold = holds.get(new ReservedSlot(themeId, timeId, date));
+        return hold != null && !hold.isExpired(System.currentTimeMillis());
+    }
+
+    private void validateBookable(ReservedSlot slot) {
+        if (slot.date().isBefore(LocalDate.now())) {
+            throw new BadRequestException("지난 날짜의 예약을 시도하였습니다.");
+        }
+        if (!themeRepository.existsById(slot.themeId()) || !timeRepository.existsById(slot.timeId())) {
+            throw new BadRequestException("선택하신 테마 또는 예약 시간이 존재하지 않습니다.");
+        }
+    }
+
+    private void acquireQuota(Long memberId, ReservedSlot slot) {
+        memberHolds.compute(memberId, (key, slots) -> {
+            Set<ReservedSlot> memberSlots = slots == null ? new HashSet<>() : slots;
+            if (memberSlots.size() >= MAX_HOLDS_PER_MEMBER) {
+                throw new BadRequestException(
+                        "예약은 한 번에 최대 %d개의 시간까지 진행할 수 있습니다.".formatted(MAX_HOLDS_PER_MEMBER));
+            }
+            memberSlots.add(slot);
+            return memberSlots;
+        });
+    }
+
+    private void releaseQuota(Hold hold) {
+        memberHolds.computeIfPresent(hold.memberId(), (key, slots) -> {
+            slots.remove(hold.slot());
+            return slots.isEmpty() ? null : slots;
+        });
+    }
+
+    private boolean remove(Long memberId, ReservedSlot slot) {
+        Hold hold = holds.get(slot);
+        if (hold != null && hold.isOwnedBy(memberId) && holds.remove(slot, hold)) {
+            timingWheel.cancel(hold.timeout);
+            releaseQuota(hold);
+            return true;
+        }
+        return false;
+    }
+
+    private void expireQuietly() {
+        try {
+            expire();
+        } catch (RuntimeException e) {
+            logger.warn("예약 선점 만료 처리에 실패하였습니다. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    void expire() {
+        for (Hold hold : timingWheel.advance(System.currentTimeMillis())) {
+            if (holds.remove(hold.slot(), hold)) {
+                releaseQuota(hold);
+                expired(hold.slot());
+            }
+        }
+    }
+
+    private void expired(ReservedSlot slot) {
+        try {
+            changed(slot, availabilityIndex.isBooked(slot.themeId(), slot.timeId(), slot.date()));
+        } catch (RuntimeException e) {
+            logger.warn("만료된 예약 선점을 알리지 못했습니다.", e);
+        }
+    }
+
+    private void changed(ReservedSlot slot, boolean booked) {
+        versionRegistry.increase(AggregateType.HOLD);
+        slotChangeHub.publish(slot.themeId(), slot.date(), slot.timeId(), booked);
+    }
+
+    int scheduledCount() {
+        return timingWheel.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
+
+    private static final class Hold {
+        private final Long memberId;
+        private final ReservedSlot slot;
+        private final long expiresAt;
+        private HierarchicalTimingWheel.Timeout<Hold> timeout;
+
+        Hold(Long memberId, ReservedSlot slot, long expiresAt) {
+            this.memberId = memberId;
+            this.slot = slot;
+            this.expiresAt = expiresAt;
+        }
+
+        Long memberId() {
+            return memberId;
+        }
+
+        ReservedSlot slot() {
+            return slot;
+        }
+
+        long expiresAt() {
+            return expiresAt;
+        }
+
+        boolean isOwnedBy(Long memberId) {
+            return this.memberId.equals(memberId);
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+
+        boolean isRenewableAt(long now) {
+            return now - (expiresAt - HOLD_MILLIS) >= RENEW_INTERVAL_MILLIS;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package roomescape.reservation.service;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import roomescape.exception.ConflictException;
+import roomescape.reservation.dto.ReservationCreateRequest;
+import roomescape.reservation.dto.ReservationResponse;
+
+@Component
+public class ReservationIdempotencyStore {
+    private static final int MAX_ENTRIES = 10_000;
+    private static final long TTL_NANOS = Duration.ofMinutes(30).toNanos();
+
+    private final Map<IdempotencyKey, Entry> entries = new LinkedHashMap<>();
+
+    public ReservationResponse execute(Operation operation, String key, ReservationCreateRequest request,
+                                       Supplier<ReservationResponse> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+
+        IdempotencyKey idempotencyKey = new IdempotencyKey(operation, request.memberId(), key);
+        Entry created = new Entry(request, new CompletableFuture<>(), System.nanoTime() + TTL_NANOS);
+        Entry existing;
+        synchronized (entries) {
+            evictExpired(System.nanoTime());
+            existing = entries.putIfAbsent(idempotencyKey, created);
+            if (existing == null) {
+                evictOverflow();
+            }
+        }
+
+        if (existing != null) {
+            return replay(existing, request);
+        }
+        try {
+            ReservationResponse response = action.get();
+            created.response().complete(response);
+            return response;
+        } catch (Throwable e) {
+            synchronized (entries) {
+                entries.remove(idempotencyKey, created);
+            }
+            created.response().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private ReservationResponse replay(Entry entry, ReservationCreateRequest request) {
+        if (!entry.request().equals(request)) {
+            throw new ConflictException("같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
+        }
+        try {
+            return entry.response().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext() && iterator.next().expiresAt() - now < 0) {
+            iterator.remove();
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() > MAX_ENTRIES && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    public enum Operation {
+        RESERVATION,
+        WAITING
+    }
+
+    private record IdempotencyKey(Operation operation, Long memberId, String key) {
+    }
+
+    private record Entry(ReservationCreateRequest request,
+                         CompletableFuture<ReservationResponse> response,
+                         long expiresAt) {
+    }
+}
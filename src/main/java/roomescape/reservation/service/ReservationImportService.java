@@ -0,0 +1,265 @@
+package roomescape.reservation.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import roomescape.exception.BadRequestException;
+import roomescape.member.repository.MemberRepository;
+import roomescape.reservation.dto.ReservationCreateRequest;
+import roomescape.reservation.dto.ReservationDetailSlot;
+import roomescape.reservation.dto.ReservationImportResponse;
+import roomescape.reservation.dto.ReservationImportRowResponse;
+import roomescape.reservation.dto.ReservationRequest;
+import roomescape.reservation.dto.ReservedSlot;
+import roomescape.reservation.repository.ReservationBulkRepository;
+import roomescape.theme.domain.Theme;
+import roomescape.theme.repository.ThemeRepository;
+import roomescape.time.domain.Time;
+import roomescape.time.repository.TimeRepository;
+
+@Service
+public class ReservationImportService {
+    private static final int MAX_IMPORT_SIZE = 10_000;
+    private static final String INVALID_REQUEST_MESSAGE = "예약 정보가 올바르지 않습니다.";
+
+    private final ReservationBulkRepository bulkRepository;
+    private final MemberRepository memberRepository;
+    private final ThemeRepository themeRepository;
+    private final TimeRepository timeRepository;
+    private final ReservationAvailabilityIndex availabilityIndex;
+    private final ReservationHoldRegistry holdRegistry;
+    private final ObjectReader requestReader;
+
+    public ReservationImportService(ReservationBulkRepository bulkRepository,
+                                    MemberRepository memberRepository,
+                                    ThemeRepository themeRepository,
+                                    TimeRepository timeRepository,
+                                    ReservationAvailabilityIndex availabilityIndex,
+                                    ReservationHoldRegistry holdRegistry,
+                                    ObjectMapper objectMapper) {
+        this.bulkRepository = bulkRepository;
+        this.memberRepository = memberRepository;
+        this.themeRepository = themeRepository;
+        this.timeRepository = timeRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.holdRegistry = holdRegistry;
+        this.requestReader = objectMapper.readerFor(ReservationCreateRequest.class);
+    }
+
+    public List<ReservationCreateRequest> readJsonArray(InputStream inputStream) throws IOException {
+        List<ReservationCreateRequest> requests = new ArrayList<>();
+        try (JsonParser parser = requestReader.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BadRequestException(INVALID_REQUEST_MESSAGE);
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new BadRequestException(INVALID_REQUEST_MESSAGE);
+                }
+                addWithinLimit(requests, readElement(parser));
+            }
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException(INVALID_REQUEST_MESSAGE);
+        }
+        return requests;
+    }
+
+    public List<ReservationCreateRequest> readNdjson(InputStream inputStream) throws IOException {
+        List<ReservationCreateRequest> requests = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.isBlank()) {
+                addWithinLimit(requests, readLine(line));
+            }
+        }
+        return requests;
+    }
+
+    private ReservationCreateRequest readElement(JsonParser parser) throws IOException {
+        JsonNode element = requestReader.readTree(parser);
+        if (element == null || element.isNull()) {
+            return null;
+        }
+        try {
+            return requestReader.readValue(element);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private ReservationCreateRequest readLine(String line) {
+        try {
+            return requestReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private void addWithinLimit(List<ReservationCreateRequest> requests, ReservationCreateRequest request) {
+        if (requests.size() >= MAX_IMPORT_SIZE) {
+            throw new BadRequestException(maxImportSizeMessage());
+        }
+        requests.add(request);
+    }
+
+    public void validateImportSize(List<ReservationCreateRequest> requests) {
+        if (requests.isEmpty()) {
+            throw new BadRequestException("등록할 예약 정보가 없습니다.");
+        }
+        if (requests.size() > MAX_IMPORT_SIZE) {
+            throw new BadRequestException(maxImportSizeMessage());
+        }
+    }
+
+    private String maxImportSizeMessage() {
+        return "예약은 한 번에 최대 %d건까지 등록할 수 있습니다.".formatted(MAX_IMPORT_SIZE);
+    }
+
+    @Transactional
+    public ReservationImportResponse importReservations(List<ReservationCreateRequest> requests) {
+        ImportContext context = createContext(requests);
+        ReservationImportRowResponse[] results = new ReservationImportRowResponse[requests.size()];
+        List<Integer> acceptedRows = new ArrayList<>();
+
+        for (int row = 0; row < requests.size(); row++) {
+            String rejection = context.validate(requests.get(row));
+            if (rejection == null) {
+                acceptedRows.add(row);
+                continue;
+            }
+            results[row] = ReservationImportRowResponse.rejected(row + 1, rejection);
+        }
+
+        List<ReservedSlot> acceptedSlots = acceptedRows.stream()
+                .map(row -> toSlot(requests.get(row)))
+                .toList();
+        Map<ReservedSlot, Long> detailIds = resolveDetailIds(context.detailIds, acceptedSlots);
+        List<ReservationRequest> reservationRequests = acceptedRows.stream()
+                .map(row -> new ReservationRequest(
+                        requests.get(row).memberId(),
+                        detailIds.get(toSlot(requests.get(row)))))
+                .toList();
+        List<Long> reservationIds = bulkRepository.insertReservations(reservationRequests);
+
+        for (int i = 0; i < acceptedRows.size(); i++) {
+            int row = acceptedRows.get(i);
+            results[row] = ReservationImportRowResponse.created(row + 1, reservationIds.get(i));
+            availabilityIndex.book(acceptedSlots.get(i));
+            holdRegistry.consume(requests.get(row).memberId(), acceptedSlots.get(i));
+        }
+        return ReservationImportResponse.from(Arrays.asList(results));
+    }
+
+    private ImportContext createContext(List<ReservationCreateRequest> requests) {
+        Set<Long> memberIds = requests.stream()
+                .filter(Objects::nonNull)
+                .map(ReservationCreateRequest::memberId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> themeIds = themeRepository.findAll().stream()
+                .map(Theme::getId)
+                .collect(Collectors.toSet());
+        Set<Long> timeIds = timeRepository.findAll().stream()
+                .map(Time::getId)
+                .collect(Collectors.toSet());
+
+        Set<ReservedSlot> slots = requests.stream()
+                .filter(request -> request != null && request.themeId() != null
+                                   && request.timeId() != null && request.date() != null)
+                .map(ReservationImportService::toSlot)
+                .collect(Collectors.toSet());
+        Map<ReservedSlot, Long> detailIds = new HashMap<>();
+        Set<ReservedSlot> reservedSlots = new HashSet<>();
+        for (ReservationDetailSlot detailSlot : bulkRepository.findDetailSlots(slots)) {
+            detailIds.put(detailSlot.slot(), detailSlot.detailId());
+            if (detailSlot.reserved()) {
+                reservedSlots.add(detailSlot.slot());
+            }
+        }
+
+        return new ImportContext(
+                Set.copyOf(memberRepository.findIdsByIdIn(memberIds)),
+                themeIds,
+                timeIds,
+                detailIds,
+                reservedSlots,
+                holdRegistry,
+                LocalDate.now());
+    }
+
+    private Map<ReservedSlot, Long> resolveDetailIds(Map<ReservedSlot, Long> detailIds, List<ReservedSlot> slots) {
+        List<ReservedSlot> missingSlots = slots.stream()
+                .filter(slot -> !detailIds.containsKey(slot))
+                .toList();
+        List<Long> insertedIds = bulkRepository.insertDetails(missingSlots);
+        for (int i = 0; i < missingSlots.size(); i++) {
+            detailIds.put(missingSlots.get(i), insertedIds.get(i));
+        }
+        return detailIds;
+    }
+
+    private static ReservedSlot toSlot(ReservationCreateRequest request) {
+        return new ReservedSlot(request.themeId(), request.timeId(), request.date());
+    }
+
+    private record ImportContext(
+            Set<Long> memberIds,
+            Set<Long> themeIds,
+            Set<Long> timeIds,
+            Map<ReservedSlot, Long> detailIds,
+            Set<ReservedSlot> reservedSlots,
+            ReservationHoldRegistry holdRegistry,
+            LocalDate today
+    ) {
+        String validate(ReservationCreateRequest request) {
+            if (request == null || request.memberId() == null || request.themeId() == null
+                || request.timeId() == null || request.date() == null) {
+                return INVALID_REQUEST_MESSAGE;
+            }
+            if (request.isBeforeDate(today)) {
+                return "지난 날짜의 예약을 시도하였습니다.";
+            }
+            if (!memberIds.contains(request.memberId())) {
+                return "해당 멤버 정보가 존재하지 않습니다.";
+            }
+            if (!themeIds.contains(request.themeId())) {
+                return "선택하신 테마가 존재하지 않습니다.";
+            }
+            if (!timeIds.contains(request.timeId())) {
+                return "해당 예약 시간이 존재하지 않습니다.";
+            }
+            if (holdRegistry.isHeldByOther(request.memberId(), toSlot(request))) {
+                return "다른 사용자가 예약 중인 시간입니다.";
+            }
+            if (!reservedSlots.add(toSlot(request))) {
+                return "해당 테마의 해당 시간에는 이미 예약이 존재합니다.";
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package roomescape.reservation.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import roomescape.reservation.dto.ReservationCleanupReport;
+
+@Component
+public class ReservationJanitor {
+    private static final int BATCH_SIZE = 500;
+    private static final long THROTTLE_MILLIS = 50;
+    private static final long INITIAL_DELAY_MILLIS = Duration.ofMinutes(1).toMillis();
+    private static final long PERIOD_MILLIS = Duration.ofHours(1).toMillis();
+
+    private final Logger logger = LoggerFactory.getLogger(ReservationJanitor.class.getName());
+    private final ReservationCleanupService cleanupService;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "reservation-janitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReservationJanitor(ReservationCleanupService cleanupService) {
+        this.cleanupService = cleanupService;
+        scheduler.scheduleWithFixedDelay(this::runQuietly, INITIAL_DELAY_MILLIS, PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized ReservationCleanupReport run() {
+        long startedAt = System.nanoTime();
+        LocalDate today = LocalDate.now();
+
+        long expiredWaitings = deleteInBatches(() -> cleanupService.deleteExpiredWaitings(today, BATCH_SIZE));
+        long orphanedDetails = deleteInBatches(() -> cleanupService.deleteOrphanedDetails(today, BATCH_SIZE));
+
+        ReservationCleanupReport report = new ReservationCleanupReport(
+                expiredWaitings,
+                orphanedDetails,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        logger.info("지난 예약 대기 {}건, 사용하지 않는 예약 정보 {}건을 삭제하였습니다. ({}ms)",
+                report.expiredWaitings(), report.orphanedDetails(), report.elapsedMillis());
+        return report;
+    }
+
+    private long deleteInBatches(IntSupplier batch) {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = batch.getAsInt();
+            total += deleted;
+        } while (deleted == BATCH_SIZE && throttle());
+        return total;
+    }
+
+    private boolean throttle() {
+        try {
+            Thread.sleep(THROTTLE_MILLIS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void runQuietly() {
+        try {
+            run();
+        } catch (RuntimeException e) {
+            logger.warn("예약 정리에 실패하였습니다. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
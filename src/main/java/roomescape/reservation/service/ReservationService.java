@@ -3,47 +3,74 @@ package roomescape.reservation.service;
 import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import roomescape.exception.BadRequestException;
 import roomescape.exception.ConflictException;
-import roomescape.member.domain.Member;
 import roomescape.member.repository.MemberRepository;
 import roomescape.reservation.domain.Reservation;
-import roomescape.reservation.domain.ReservationDetail;
 import roomescape.reservation.dto.MyReservationResponse;
 import roomescape.reservation.dto.ReservationConditionSearchRequest;
+import roomescape.reservation.dto.ReservationCursor;
+import roomescape.reservation.dto.ReservationDateAvailabilityResponse;
+import roomescape.reservation.dto.ReservationPageRequest;
+import roomescape.reservation.dto.ReservationPageResponse;
 import roomescape.reservation.dto.ReservationRequest;
 import roomescape.reservation.dto.ReservationResponse;
+import roomescape.reservation.dto.ReservationRow;
+import roomescape.reservation.dto.ReservationTarget;
 import roomescape.reservation.dto.ReservationTimeAvailabilityResponse;
+import roomescape.reservation.repository.MyReservationRepository;
 import roomescape.reservation.repository.ReservationDetailRepository;
 import roomescape.reservation.repository.ReservationRepository;
-import roomescape.time.domain.Time;
-import roomescape.time.repository.TimeRepository;
+import roomescape.reservation.repository.ReservationSearchRepository;
 
 @Service
 public class ReservationService {
+    private static final int MAX_AVAILABILITY_DAYS = 62;
+
     private final ReservationRepository reservationRepository;
     private final ReservationDetailRepository detailRepository;
     private final MemberRepository memberRepository;
-    private final TimeRepository timeRepository;
+    private final ReservationAvailabilityIndex availabilityIndex;
+    private final ReservationHoldRegistry holdRegistry;
+    private final MyReservationRepository myReservationRepository;
+    private final ReservationSearchRepository searchRepository;
 
     public ReservationService(ReservationRepository reservationRepository,
                               ReservationDetailRepository detailRepository,
                               MemberRepository memberRepository,
-                              TimeRepository timeRepository) {
+                              ReservationAvailabilityIndex availabilityIndex,
+                              ReservationHoldRegistry holdRegistry,
+                              MyReservationRepository myReservationRepository,
+                              ReservationSearchRepository searchRepository) {
         this.reservationRepository = reservationRepository;
         this.detailRepository = detailRepository;
         this.memberRepository = memberRepository;
-        this.timeRepository = timeRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.holdRegistry = holdRegistry;
+        this.myReservationRepository = myReservationRepository;
+        this.searchRepository = searchRepository;
     }
 
-    public List<ReservationResponse> findReservations() {
-        List<Reservation> reservations = reservationRepository.findAllByOrderByDetailDateAsc();
+    @Transactional(readOnly = true)
+    public ReservationPageResponse findReservations(ReservationPageRequest pageRequest) {
+        List<ReservationRow> reservations = findPage(pageRequest);
 
-        return reservations.stream()
-                .map(ReservationResponse::from)
-                .toList();
+        return ReservationPageResponse.of(reservations.stream()
+                .map(ReservationRow::toResponse)
+                .toList(), pageRequest.size());
+    }
+
+    private List<ReservationRow> findPage(ReservationPageRequest pageRequest) {
+        if (pageRequest.isFirstPage()) {
+            return reservationRepository.findFirstPage(pageRequest.limitWithNext());
+        }
+        ReservationCursor cursor = pageRequest.cursor();
+        return reservationRepository.findPageAfter(
+                cursor.date(), cursor.startAt(), cursor.detailId(), pageRequest.limitWithNext());
     }
 
     public ReservationRequest findReservation(Long id) {
@@ -53,20 +80,18 @@ public class ReservationService {
         return ReservationRequest.from(reservation);
     }
 
-    public List<ReservationResponse> findReservationsByConditions(ReservationConditionSearchRequest request) {
-        List<Reservation> reservations = reservationRepository.findAllByMember_Id(request.memberId());
+    @Transactional(readOnly = true)
+    public ReservationPageResponse findReservationsByConditions(ReservationConditionSearchRequest request,
+                                                                ReservationPageRequest pageRequest) {
+        List<ReservationRow> reservations = searchRepository.search(request, pageRequest);
 
-        return reservations.stream()
-                .filter(reservation -> reservation.isReservedAtPeriod(request.dateFrom(), request.dateTo()))
-                .map(ReservationResponse::from)
-                .toList();
+        return ReservationPageResponse.of(reservations.stream()
+                .map(ReservationRow::toResponse)
+                .toList(), pageRequest.size());
     }
 
-    public List<MyReservationResponse> findReservationByMemberId(Long id) {
-        List<Reservation> reservationsByMember = reservationRepository.findAllByMember_IdOrderByDetailDateAsc(id);
-        return reservationsByMember.stream()
-                .map(MyReservationResponse::from)
-                .toList();
+    public List<MyReservationResponse> findMyReservations(Long memberId) {
+        return myReservationRepository.findAllByMemberId(memberId);
     }
 
     public void checkExistsReservation(Long detailId) {
@@ -80,42 +105,54 @@ public class ReservationService {
     }
 
     public List<ReservationTimeAvailabilityResponse> findTimeAvailability(Long themeId, LocalDate date) {
-        List<Time> allTimes = timeRepository.findAllByOrderByStartAtAsc();
-        List<Time> bookedTimes = getBookedTimesOfThemeAtDate(themeId, date);
+        return applyHolds(themeId, date, availabilityIndex.findTimeAvailability(themeId, date));
+    }
 
-        return allTimes.stream()
-                .map(time -> ReservationTimeAvailabilityResponse.from(time, bookedTimes.contains(time)))
+    public List<ReservationDateAvailabilityResponse> findDateAvailability(Long themeId, LocalDate from, LocalDate to) {
+        validateAvailabilityPeriod(from, to);
+        return availabilityIndex.findDateAvailability(themeId, from, to)
+                .stream()
+                .map(availability -> ReservationDateAvailabilityResponse.of(
+                        availability.date(),
+                        applyHolds(themeId, availability.date(), availability.times())))
                 .toList();
     }
 
-    private List<Time> getBookedTimesOfThemeAtDate(long themeId, LocalDate date) {
-        List<Reservation> reservations = reservationRepository.findAllByDetail_Theme_IdAndDetail_Date(themeId, date);
-        return reservations.stream()
-                .map(Reservation::getTime)
+    private List<ReservationTimeAvailabilityResponse> applyHolds(Long themeId, LocalDate date,
+                                                                 List<ReservationTimeAvailabilityResponse> times) {
+        return times.stream()
+                .map(time -> time.alreadyBooked() || !holdRegistry.isHeld(themeId, time.timeId(), date)
+                        ? time
+                        : new ReservationTimeAvailabilityResponse(time.timeId(), time.startAt(), true))
                 .toList();
     }
 
-    public ReservationResponse addReservation(ReservationRequest reservationRequest) {
-        Member member = memberRepository.findById(reservationRequest.memberId())
-                .orElseThrow(() -> new BadRequestException("해당 멤버 정보가 존재하지 않습니다."));
-        ReservationDetail detail = detailRepository.findById(reservationRequest.detailId())
-                .orElseThrow(() -> new BadRequestException("해당 예약 정보가 존재하지 않습니다."));
-        validateReservationDetail(detail);
-
-        Reservation reservation = reservationRequest.createReservation(member, detail);
-        Reservation savedReservation = reservationRepository.save(reservation);
-        return ReservationResponse.from(savedReservation);
+    private void validateAvailabilityPeriod(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new BadRequestException("조회 시작 날짜가 마지막 날짜보다 늦습니다.");
+        }
+        if (from.plusDays(MAX_AVAILABILITY_DAYS).isBefore(to)) {
+            throw new BadRequestException("예약 가능 여부는 최대 %d일까지 조회할 수 있습니다.".formatted(MAX_AVAILABILITY_DAYS));
+        }
     }
 
-    private void validateReservationDetail(ReservationDetail detail) {
-        reservationRepository.findByDetail_Id(detail.getId())
-                .ifPresent(reservation -> {
-                    throw new ConflictException(
-                            "해당 테마(%s)의 해당 시간(%s)에는 이미 예약이 존재합니다."
-                                    .formatted(
-                                            reservation.getTheme().getName(),
-                                            reservation.getTime().getStartAt()));
-                });
+    public ReservationResponse addReservation(ReservationRequest reservationRequest) {
+        ReservationTarget target = detailRepository.findReservationTarget(
+                        reservationRequest.memberId(),
+                        reservationRequest.detailId())
+                .orElseThrow(() -> new BadRequestException("해당 멤버 또는 예약 정보가 존재하지 않습니다."));
+
+        Reservation reservation = reservationRequest.createReservation(
+                memberRepository.getReferenceById(reservationRequest.memberId()),
+                detailRepository.getReferenceById(reservationRequest.detailId()));
+        try {
+            Reservation savedReservation = reservationRepository.save(reservation);
+            return target.toResponse(savedReservation.getId());
+        } catch (DataIntegrityViolationException e) {
+            throw new ConflictException(
+                    "해당 테마(%s)의 해당 시간(%s)에는 이미 예약이 존재합니다."
+                            .formatted(target.themeName(), target.startAt()));
+        }
     }
 
     public void deleteReservation(long reservationId) {
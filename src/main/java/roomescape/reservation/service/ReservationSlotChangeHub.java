@@ -0,0 +1,225 @@
+package roomescape.reservation.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import roomescape.reservation.dto.ReservationSlotChangeResponse;
+import roomescape.reservation.dto.ReservationTimeAvailabilityResponse;
+
+@Component
+public class ReservationSlotChangeHub {
+    private static final long EMITTER_TIMEOUT_MILLIS = Duration.ofMinutes(30).toMillis();
+    private static final long SEND_TIMEOUT_NANOS = Duration.ofSeconds(2).toNanos();
+    private static final long WATCHDOG_MILLIS = Duration.ofMillis(500).toMillis();
+    private static final int MAX_SENDERS = 64;
+    private static final int QUEUE_CAPACITY = 64;
+    private static final String SNAPSHOT_EVENT = "snapshot";
+    private static final String CHANGE_EVENT = "slot";
+
+    private final Logger logger = LoggerFactory.getLogger(ReservationSlotChangeHub.class.getName());
+    private final ConcurrentMap<Topic, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger senderNumber = new AtomicInteger();
+    private final ThreadPoolExecutor senders = new ThreadPoolExecutor(
+            0, MAX_SENDERS, 60L, TimeUnit.SECONDS,
+            new SynchronousQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "slot-change-sender-" + senderNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "slot-change-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReservationSlotChangeHub() {
+        watchdog.scheduleAtFixedRate(this::inspectQuietly, WATCHDOG_MILLIS, WATCHDOG_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(long themeId, LocalDate date,
+                                Supplier<List<ReservationTimeAvailabilityResponse>> snapshot) {
+        return subscribe(new SseEmitter(EMITTER_TIMEOUT_MILLIS), themeId, date, snapshot);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, long themeId, LocalDate date,
+                         Supplier<List<ReservationTimeAvailabilityResponse>> snapshot) {
+        Subscriber subscriber = new Subscriber(new Topic(themeId, date), emitter);
+
+        subscribers.computeIfAbsent(subscriber.topic, topic -> ConcurrentHashMap.newKeySet())
+                .add(subscriber);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(exception -> unsubscribe(subscriber));
+
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(SNAPSHOT_EVENT)
+                    .data(snapshot.get()));
+        } catch (IOException e) {
+            unsubscribe(subscriber);
+            emitter.completeWithError(e);
+            return emitter;
+        }
+        subscriber.start();
+        return emitter;
+    }
+
+    public void publish(long themeId, LocalDate date, long timeId, boolean booked) {
+        Set<Subscriber> topicSubscribers = subscribers.get(new Topic(themeId, date));
+        if (topicSubscribers == null) {
+            return;
+        }
+        ReservationSlotChangeResponse change = new ReservationSlotChangeResponse(timeId, booked);
+        topicSubscribers.forEach(subscriber -> subscriber.enqueue(change));
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.topic, (topic, topicSubscribers) -> {
+            topicSubscribers.remove(subscriber);
+            return topicSubscribers.isEmpty() ? null : topicSubscribers;
+        });
+    }
+
+    private void inspectQuietly() {
+        try {
+            long now = System.nanoTime();
+            subscribers.values()
+                    .forEach(topicSubscribers -> topicSubscribers.forEach(subscriber -> subscriber.inspect(now)));
+        } catch (RuntimeException e) {
+            logger.warn("예약 현황 구독자 점검에 실패하였습니다. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+        senders.shutdownNow();
+        subscribers.values()
+                .forEach(topicSubscribers -> topicSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+    }
+
+    private record Topic(long themeId, LocalDate date) {
+    }
+
+    private final class Subscriber {
+        private final Topic topic;
+        private final SseEmitter emitter;
+        private final BlockingQueue<ReservationSlotChangeResponse> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final AtomicBoolean scheduled = new AtomicBoolean(true);
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile long sendingSince;
+
+        private Subscriber(Topic topic, SseEmitter emitter) {
+            this.topic = topic;
+            this.emitter = emitter;
+        }
+
+        private void enqueue(ReservationSlotChangeResponse change) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(change)) {
+                logger.warn("예약 현황 구독자의 대기열이 가득 차 구독을 종료합니다.");
+                close();
+                return;
+            }
+            schedule();
+        }
+
+        private void start() {
+            scheduled.set(false);
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void inspect(long now) {
+            long startedAt = sendingSince;
+            if (startedAt != 0 && now - startedAt > SEND_TIMEOUT_NANOS) {
+                logger.warn("예약 현황 구독자에게 {}ms 안에 전송하지 못해 구독을 종료합니다.",
+                        TimeUnit.NANOSECONDS.toMillis(SEND_TIMEOUT_NANOS));
+                close();
+                return;
+            }
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void schedule() {
+            if (closed.get() || !scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                senders.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                ReservationSlotChangeResponse change;
+                while (!closed.get() && (change = queue.poll()) != null) {
+                    send(change);
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+                return;
+            } finally {
+                sendingSince = 0;
+                scheduled.set(false);
+            }
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void send(ReservationSlotChangeResponse change) throws IOException {
+            sendingSince = System.nanoTime();
+            emitter.send(SseEmitter.event()
+                    .name(CHANGE_EVENT)
+                    .data(change));
+            sendingSince = 0;
+        }
+
+        private void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            unsubscribe(this);
+            queue.clear();
+            try {
+                emitter.complete();
+            } catch (RuntimeException e) {
+                logger.warn("예약 현황 구독을 종료하지 못했습니다.", e);
+            }
+        }
+    }
+}
@@ -1,20 +1,23 @@
 package roomescape.reservation.service;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import roomescape.exception.BadRequestException;
 import roomescape.exception.ConflictException;
-import roomescape.member.domain.Member;
 import roomescape.member.repository.MemberRepository;
-import roomescape.reservation.domain.ReservationDetail;
 import roomescape.reservation.domain.ReservationWaiting;
-import roomescape.reservation.dto.MyReservationResponse;
+import roomescape.reservation.dto.ReservationCursor;
+import roomescape.reservation.dto.ReservationPageRequest;
+import roomescape.reservation.dto.ReservationPageResponse;
 import roomescape.reservation.dto.ReservationRequest;
 import roomescape.reservation.dto.ReservationResponse;
+import roomescape.reservation.dto.ReservationRow;
+import roomescape.reservation.dto.ReservationTarget;
 import roomescape.reservation.repository.ReservationDetailRepository;
 import roomescape.reservation.repository.ReservationWaitingRepository;
 
@@ -32,53 +35,49 @@ public class ReservationWaitingService {
         this.detailRepository = detailRepository;
     }
 
-    public List<ReservationResponse> findReservationWaitings() {
-        List<ReservationWaiting> reservations = waitingRepository.findAllByOrderById();
+    @Transactional(readOnly = true)
+    public ReservationPageResponse findReservationWaitings(ReservationPageRequest pageRequest) {
+        List<ReservationRow> reservations = findPage(pageRequest);
 
-        return reservations.stream()
-                .map(ReservationResponse::from)
-                .toList();
+        return ReservationPageResponse.of(reservations.stream()
+                .map(ReservationRow::toResponse)
+                .toList(), pageRequest.size());
     }
 
-    public Optional<ReservationRequest> findFirstByDetailId(Long detailId) {
-        Optional<ReservationWaiting> waiting = waitingRepository.findFirstByDetail_IdOrderByCreateAtDesc(detailId);
-
-        waiting.ifPresent(reservationWaiting -> waitingRepository.deleteById(reservationWaiting.getId()));
-        return waiting.map(ReservationRequest::from);
-    }
-
-    public List<MyReservationResponse> findReservationWaitingByMemberId(Long id) {
-        List<ReservationWaiting> reservationsByMember
-                = waitingRepository.findAllByMember_IdOrderByDetailDateAsc(id);
-
-        return reservationsByMember.stream()
-                .sorted(Comparator.comparing(ReservationWaiting::getCreateAt))
-                .map(r -> MyReservationResponse.from(
-                        r, waitingRepository.countByCreateAtBeforeAndAndDetail_id(r.getCreateAt(), r.getDetailId()) + 1))
-                .toList();
+    private List<ReservationRow> findPage(ReservationPageRequest pageRequest) {
+        Limit limit = pageRequest.limitWithNext();
+        if (pageRequest.isFirstPage()) {
+            List<Long> detailIds = waitingRepository.findFirstDetailIds(limit);
+            return detailIds.isEmpty() ? List.of() : waitingRepository.findPageIn(detailIds, limit);
+        }
+        ReservationCursor cursor = pageRequest.cursor();
+        List<Long> detailIds = waitingRepository.findDetailIdsFrom(
+                cursor.date(), cursor.startAt(), cursor.detailId(), Limit.of(limit.max() + 1));
+        if (detailIds.isEmpty()) {
+            return List.of();
+        }
+        return waitingRepository.findPageAfterIn(detailIds, cursor.detailId(), cursor.id(), limit);
     }
 
     public ReservationResponse addReservationWaiting(ReservationRequest reservationRequest) {
-        Member member = memberRepository.findById(reservationRequest.memberId())
-                .orElseThrow(() -> new BadRequestException("해당 멤버 정보가 존재하지 않습니다."));
-        ReservationDetail detail = detailRepository.findById(reservationRequest.detailId())
-                .orElseThrow(() -> new BadRequestException("해당 예약 정보가 존재하지 않습니다."));
-        checkExistsReservationWaiting(new ReservationRequest(member.getId(), detail.getId()));
-
-        ReservationWaiting reservation = reservationRequest.createReservationWaiting(member, detail);
-        ReservationWaiting savedReservation = waitingRepository.save(reservation);
-        return ReservationResponse.from(savedReservation);
-    }
+        ReservationTarget target = detailRepository.findReservationTarget(
+                        reservationRequest.memberId(),
+                        reservationRequest.detailId())
+                .orElseThrow(() -> new BadRequestException("해당 멤버 또는 예약 정보가 존재하지 않습니다."));
 
-    public void checkExistsReservationWaiting(ReservationRequest request) {
-        waitingRepository.findByMember_IdAndDetail_Id(request.memberId(), request.detailId())
-                .ifPresent(reservation -> {
-                    throw new ConflictException(
-                            "해당 테마(%s)의 해당 시간(%s)에 이미 예약 대기가 존재합니다."
-                                    .formatted(
-                                            reservation.getTheme().getName(),
-                                            reservation.getTime().getStartAt()));
-                });
+        Long seq = detailRepository.nextWaitingSeqById(reservationRequest.detailId());
+        ReservationWaiting reservation = reservationRequest.createReservationWaiting(
+                memberRepository.getReferenceById(reservationRequest.memberId()),
+                detailRepository.getReferenceById(reservationRequest.detailId()),
+                seq);
+        try {
+            ReservationWaiting savedReservation = waitingRepository.save(reservation);
+            return target.toResponse(savedReservation.getId());
+        } catch (DataIntegrityViolationException e) {
+            throw new ConflictException(
+                    "해당 테마(%s)의 해당 시간(%s)에 이미 예약 대기가 존재합니다."
+                            .formatted(target.themeName(), target.startAt()));
+        }
     }
 
     public void removeReservations(Long id) {
@@ -0,0 +1,115 @@
+package roomescape.reservation.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import roomescape.reservation.dto.PendingPromotion;
+import roomescape.reservation.dto.WaitingPromotionBatch;
+import roomescape.reservation.dto.WaitingPromotionMetricsResponse;
+
+@Component
+public class WaitingPromoter {
+    private static final int BATCH_SIZE = 100;
+    private static final long POLL_MILLIS = Duration.ofSeconds(1).toMillis();
+
+    private final Logger logger = LoggerFactory.getLogger(WaitingPromoter.class.getName());
+    private final WaitingPromotionService promotionService;
+    private final LongAdder processedCount = new LongAdder();
+    private final LongAdder promotedCount = new LongAdder();
+    private final AtomicLong lastLagMillis = new AtomicLong();
+    private final AtomicLong maxLagMillis = new AtomicLong();
+    private final ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "waiting-promoter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public WaitingPromoter(WaitingPromotionService promotionService) {
+        this.promotionService = promotionService;
+        worker.scheduleWithFixedDelay(this::drainQuietly, POLL_MILLIS, POLL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public void request(Long detailId) {
+        promotionService.requestPromotion(detailId);
+        afterCommit(this::wakeUp);
+    }
+
+    public void validateNotPromoting(Long detailId) {
+        promotionService.validateNotPromoting(detailId);
+    }
+
+    public synchronized void drain() {
+        WaitingPromotionBatch batch;
+        do {
+            batch = promotionService.promoteNextBatch(BATCH_SIZE);
+            record(batch);
+        } while (batch.size() == BATCH_SIZE);
+    }
+
+    public WaitingPromotionMetricsResponse metrics() {
+        return new WaitingPromotionMetricsResponse(
+                processedCount.sum(),
+                promotedCount.sum(),
+                lastLagMillis.get(),
+                maxLagMillis.get());
+    }
+
+    private void record(WaitingPromotionBatch batch) {
+        LocalDateTime now = LocalDateTime.now();
+        for (PendingPromotion promotion : batch.promotions()) {
+            long lagMillis = promotion.lagUntil(now).toMillis();
+            lastLagMillis.set(lagMillis);
+            maxLagMillis.accumulateAndGet(lagMillis, Math::max);
+        }
+        processedCount.add(batch.size());
+        promotedCount.add(batch.promotedCount());
+    }
+
+    private void wakeUp() {
+        try {
+            worker.execute(this::drainQuietly);
+        } catch (RejectedExecutionException e) {
+            logger.warn("예약 대기 승격 작업을 시작하지 못했습니다.", e);
+        }
+    }
+
+    private void drainQuietly() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            logger.warn("예약 대기 승격에 실패하였습니다. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+}
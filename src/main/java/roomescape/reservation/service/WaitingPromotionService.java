@@ -0,0 +1,63 @@
+package roomescape.reservation.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import roomescape.exception.ConflictException;
+import roomescape.reservation.domain.WaitingPromotion;
+import roomescape.reservation.dto.PendingPromotion;
+import roomescape.reservation.dto.WaitingPromotionBatch;
+import roomescape.reservation.repository.WaitingPromotionBatchRepository;
+import roomescape.reservation.repository.WaitingPromotionRepository;
+
+@Service
+public class WaitingPromotionService {
+    private final WaitingPromotionRepository promotionRepository;
+    private final WaitingPromotionBatchRepository batchRepository;
+    private final ReservationAvailabilityIndex availabilityIndex;
+
+    public WaitingPromotionService(WaitingPromotionRepository promotionRepository,
+                                   WaitingPromotionBatchRepository batchRepository,
+                                   ReservationAvailabilityIndex availabilityIndex) {
+        this.promotionRepository = promotionRepository;
+        this.batchRepository = batchRepository;
+        this.availabilityIndex = availabilityIndex;
+    }
+
+    public void requestPromotion(Long detailId) {
+        promotionRepository.save(new WaitingPromotion(detailId));
+    }
+
+    public void validateNotPromoting(Long detailId) {
+        if (promotionRepository.existsByDetailId(detailId)) {
+            throw new ConflictException("예약 대기자에게 먼저 배정 중인 시간입니다. 예약 대기를 신청해주세요.");
+        }
+    }
+
+    @Transactional
+    public WaitingPromotionBatch promoteNextBatch(int batchSize) {
+        List<PendingPromotion> promotions = batchRepository.findPending(batchSize);
+        if (promotions.isEmpty()) {
+            return WaitingPromotionBatch.empty();
+        }
+
+        List<Long> detailIds = promotions.stream()
+                .map(PendingPromotion::detailId)
+                .distinct()
+                .toList();
+        List<Long> waitingIds = batchRepository.findFirstWaitingIds(detailIds);
+        int promotedCount = 0;
+        if (!waitingIds.isEmpty()) {
+            promotedCount = batchRepository.promote(waitingIds);
+        }
+        batchRepository.findVacantSlots(detailIds)
+                .forEach(availabilityIndex::release);
+        batchRepository.deleteAllByIdIn(promotions.stream()
+                .map(PendingPromotion::id)
+                .toList());
+
+        return new WaitingPromotionBatch(promotions, promotedCount);
+    }
+}
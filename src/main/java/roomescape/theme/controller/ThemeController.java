@@ -11,25 +11,36 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import roomescape.theme.dto.ThemeRankResponse;
 import roomescape.theme.dto.ThemeRequest;
 import roomescape.theme.dto.ThemeResponse;
 import roomescape.theme.service.ThemeService;
+import roomescape.version.AggregateType;
+import roomescape.version.AggregateVersionRegistry;
 
 @RestController
 @RequestMapping("/themes")
 public class ThemeController {
     private final ThemeService themeService;
+    private final AggregateVersionRegistry versionRegistry;
 
-    public ThemeController(ThemeService themeService) {
+    public ThemeController(ThemeService themeService, AggregateVersionRegistry versionRegistry) {
         this.themeService = themeService;
+        this.versionRegistry = versionRegistry;
     }
 
     @GetMapping
-    public ResponseEntity<List<ThemeResponse>> findThemes() {
+    public ResponseEntity<List<ThemeResponse>> findThemes(WebRequest webRequest) {
+        String eTag = versionRegistry.eTagOf(AggregateType.THEME);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         List<ThemeResponse> themeListRequestResult = themeService.findThemes();
         return ResponseEntity.ok()
+                .eTag(eTag)
                 .body(themeListRequestResult);
     }
 
@@ -7,8 +7,14 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 import roomescape.theme.domain.Theme;
+import roomescape.theme.dto.ThemeResponse;
 
 public interface ThemeRepository extends JpaRepository<Theme, Long> {
+    @Query("""
+            SELECT new roomescape.theme.dto.ThemeResponse(t.id, t.name, t.description, t.thumbnail)
+            FROM Theme t
+            """)
+    List<ThemeResponse> findAllThemeResponses();
 
     @Query("""
             SELECT t
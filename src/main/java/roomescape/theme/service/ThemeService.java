@@ -4,12 +4,15 @@ import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import roomescape.theme.domain.Theme;
 import roomescape.theme.dto.ThemeRankResponse;
 import roomescape.theme.dto.ThemeRequest;
 import roomescape.theme.dto.ThemeResponse;
 import roomescape.theme.repository.ThemeRepository;
+import roomescape.version.AggregateType;
+import roomescape.version.AggregateVersionRegistry;
 
 @Service
 public class ThemeService {
@@ -19,18 +22,19 @@ public class ThemeService {
     public static final int RANK_LIMIT = 10;
 
     private final ThemeRepository themeRepository;
+    private final AggregateVersionRegistry versionRegistry;
 
-    public ThemeService(ThemeRepository themeRepository) {
+    public ThemeService(ThemeRepository themeRepository, AggregateVersionRegistry versionRegistry) {
         this.themeRepository = themeRepository;
+        this.versionRegistry = versionRegistry;
     }
 
+    @Transactional(readOnly = true)
     public List<ThemeResponse> findThemes() {
-        List<Theme> themes = themeRepository.findAll();
-        return themes.stream()
-                .map(ThemeResponse::from)
-                .toList();
+        return themeRepository.findAllThemeResponses();
     }
 
+    @Transactional(readOnly = true)
     public List<ThemeRankResponse> findRankedThemes() {
         LocalDate yesterday = LocalDate.now().minusDays(NUMBER_OF_ONE_DAY);
         LocalDate beforeOneWeek = yesterday.minusDays(NUMBER_OF_ONE_WEEK);
@@ -46,10 +50,12 @@ public class ThemeService {
     public ThemeResponse addTheme(ThemeRequest themeRequest) {
         Theme theme = themeRequest.createTheme();
         Theme savedTheme = themeRepository.save(theme);
+        versionRegistry.increase(AggregateType.THEME);
         return ThemeResponse.from(savedTheme);
     }
 
     public void removeTheme(Long id) {
         themeRepository.deleteById(id);
+        versionRegistry.increase(AggregateType.THEME);
     }
 }
@@ -11,24 +11,36 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import roomescape.time.dto.TimeRequest;
 import roomescape.time.dto.TimeResponse;
 import roomescape.time.service.TimeService;
+import roomescape.version.AggregateType;
+import roomescape.version.AggregateVersionRegistry;
 
 @RestController
 @RequestMapping("/times")
 public class TimeController {
     private final TimeService timeService;
+    private final AggregateVersionRegistry versionRegistry;
 
-    public TimeController(TimeService timeService) {
+    public TimeController(TimeService timeService, AggregateVersionRegistry versionRegistry) {
         this.timeService = timeService;
+        this.versionRegistry = versionRegistry;
     }
 
     @GetMapping
-    public ResponseEntity<List<TimeResponse>> findTimes() {
+    public ResponseEntity<List<TimeResponse>> findTimes(WebRequest webRequest) {
+        String eTag = versionRegistry.eTagOf(AggregateType.TIME);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         List<TimeResponse> reservationReadResponse = timeService.findReservationTimes();
-        return ResponseEntity.ok(reservationReadResponse);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(reservationReadResponse);
     }
 
     @PostMapping
@@ -4,11 +4,20 @@ import java.time.LocalTime;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import roomescape.time.domain.Time;
+import roomescape.time.dto.TimeResponse;
 
 public interface TimeRepository extends JpaRepository<Time, Long> {
     List<Time> findAllByOrderByStartAtAsc();
 
+    @Query("""
+            SELECT new roomescape.time.dto.TimeResponse(t.id, t.startAt)
+            FROM Time t
+            ORDER BY t.startAt
+            """)
+    List<TimeResponse> findAllTimeResponses();
+
     boolean existsByStartAt(LocalTime startAt);
 }
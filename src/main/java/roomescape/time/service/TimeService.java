@@ -4,36 +4,46 @@ import java.time.LocalTime;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import roomescape.exception.ConflictException;
 import roomescape.reservation.repository.ReservationDetailRepository;
+import roomescape.reservation.service.ReservationAvailabilityIndex;
 import roomescape.time.domain.Time;
 import roomescape.time.dto.TimeRequest;
 import roomescape.time.dto.TimeResponse;
 import roomescape.time.repository.TimeRepository;
+import roomescape.version.AggregateType;
+import roomescape.version.AggregateVersionRegistry;
 
 @Service
 public class TimeService {
     private final TimeRepository timeRepository;
     private final ReservationDetailRepository detailRepository;
+    private final ReservationAvailabilityIndex availabilityIndex;
+    private final AggregateVersionRegistry versionRegistry;
 
-    public TimeService(TimeRepository timeRepository, ReservationDetailRepository detailRepository) {
+    public TimeService(TimeRepository timeRepository,
+                       ReservationDetailRepository detailRepository,
+                       ReservationAvailabilityIndex availabilityIndex,
+                       AggregateVersionRegistry versionRegistry) {
         this.timeRepository = timeRepository;
         this.detailRepository = detailRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.versionRegistry = versionRegistry;
     }
 
+    @Transactional(readOnly = true)
     public List<TimeResponse> findReservationTimes() {
-        List<Time> reservationTimes = timeRepository.findAllByOrderByStartAtAsc();
-
-        return reservationTimes.stream()
-                .map(TimeResponse::from)
-                .toList();
+        return timeRepository.findAllTimeResponses();
     }
 
     public TimeResponse addReservationTime(TimeRequest timeRequest) {
         validateDuplicateTime(timeRequest.startAt());
         Time reservationTime = new Time(timeRequest.startAt());
         Time savedReservationTime = timeRepository.save(reservationTime);
+        availabilityIndex.addTime(savedReservationTime.getId(), savedReservationTime.getStartAt());
+        versionRegistry.increase(AggregateType.TIME);
 
         return TimeResponse.from(savedReservationTime);
     }
@@ -47,6 +57,8 @@ public class TimeService {
     public void removeReservationTime(long reservationTimeId) {
         validateReservationExistence(reservationTimeId);
         timeRepository.deleteById(reservationTimeId);
+        availabilityIndex.removeTime(reservationTimeId);
+        versionRegistry.increase(AggregateType.TIME);
     }
 
     private void validateReservationExistence(long timeId) {
@@ -0,0 +1,9 @@
+package roomescape.version;
+
+public enum AggregateType {
+    THEME,
+    TIME,
+    RESERVATION,
+    HOLD,
+    ;
+}
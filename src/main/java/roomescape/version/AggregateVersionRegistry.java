@@ -0,0 +1,35 @@
+package roomescape.version;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class AggregateVersionRegistry {
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final Map<AggregateType, AtomicLong> versions = new EnumMap<>(AggregateType.class);
+
+    public AggregateVersionRegistry() {
+        for (AggregateType type : AggregateType.values()) {
+            versions.put(type, new AtomicLong());
+        }
+    }
+
+    public void increase(AggregateType type) {
+        versions.get(type).incrementAndGet();
+    }
+
+    public long versionOf(AggregateType type) {
+        return versions.get(type).get();
+    }
+
+    public String eTagOf(AggregateType... types) {
+        StringBuilder eTag = new StringBuilder("\"").append(epoch);
+        for (AggregateType type : types) {
+            eTag.append('-').append(versionOf(type));
+        }
+        return eTag.append('"').toString();
+    }
+}
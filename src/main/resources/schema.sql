@@ -25,24 +25,24 @@ INSERT INTO theme(name, description, thumbnail)
 VALUES ('우테코 살아남기', '우테코는 어떤 곳인가 과연.. 그곳에 찾아간...',
         'https://techblog.woowahan.com/wp-content/uploads/img/2019-02-08/techcourse_poster.jpeg');
 
-INSERT INTO reservation_detail(theme_id, time_id, date)
-VALUES (4, 1, CURRENT_DATE - 5);
-INSERT INTO reservation_detail(theme_id, time_id, date)
-VALUES (4, 2, CURRENT_DATE - 4);
-INSERT INTO reservation_detail(theme_id, time_id, date)
-VALUES (4, 2, CURRENT_DATE - 5);
-INSERT INTO reservation_detail(theme_id, time_id, date)
-VALUES (2, 1, CURRENT_DATE - 3);
-INSERT INTO reservation_detail(theme_id, time_id, date)
-VALUES (2, 2, CURRENT_DATE - 3);
-INSERT INTO reservation_detail(theme_id, time_id, date)
-VALUES (3, 1, CURRENT_DATE - 2);
-INSERT INTO reservation_detail(theme_id, time_id, date)
-VALUES (3, 2, CURRENT_DATE - 2);
-INSERT INTO reservation_detail(theme_id, time_id, date)
-VALUES (1, 1, CURRENT_DATE - 1);
-INSERT INTO reservation_detail(theme_id, time_id, date)
-VALUES (1, 1, CURRENT_DATE);
+INSERT INTO reservation_detail(theme_id, time_id, date, start_at)
+VALUES (4, 1, CURRENT_DATE - 5, '09:00');
+INSERT INTO reservation_detail(theme_id, time_id, date, start_at)
+VALUES (4, 2, CURRENT_DATE - 4, '10:00');
+INSERT INTO reservation_detail(theme_id, time_id, date, start_at)
+VALUES (4, 2, CURRENT_DATE - 5, '10:00');
+INSERT INTO reservation_detail(theme_id, time_id, date, start_at)
+VALUES (2, 1, CURRENT_DATE - 3, '09:00');
+INSERT INTO reservation_detail(theme_id, time_id, date, start_at)
+VALUES (2, 2, CURRENT_DATE - 3, '10:00');
+INSERT INTO reservation_detail(theme_id, time_id, date, start_at)
+VALUES (3, 1, CURRENT_DATE - 2, '09:00');
+INSERT INTO reservation_detail(theme_id, time_id, date, start_at)
+VALUES (3, 2, CURRENT_DATE - 2, '10:00');
+INSERT INTO reservation_detail(theme_id, time_id, date, start_at)
+VALUES (1, 1, CURRENT_DATE - 1, '09:00');
+INSERT INTO reservation_detail(theme_id, time_id, date, start_at)
+VALUES (1, 1, CURRENT_DATE, '09:00');
 
 INSERT INTO reservation(member_id, detail_id)
 VALUES (1,1);
@@ -63,9 +63,9 @@ VALUES (1,8);
 INSERT INTO reservation(member_id, detail_id)
 VALUES (2,9);
 
-INSERT INTO reservation_waiting(member_id, detail_id, create_at)
-VALUES (1,6, '2024-05-27 14:45:00');
-INSERT INTO reservation_waiting(member_id, detail_id, create_at)
-VALUES (1,7, '2024-05-27 14:49:00');
-INSERT INTO reservation_waiting(member_id, detail_id, create_at)
-VALUES (2,8, '2024-05-27 14:42:00');
+INSERT INTO reservation_waiting(member_id, detail_id, seq, create_at)
+VALUES (1,6, 1, '2024-05-27 14:45:00');
+INSERT INTO reservation_waiting(member_id, detail_id, seq, create_at)
+VALUES (1,7, 1, '2024-05-27 14:49:00');
+INSERT INTO reservation_waiting(member_id, detail_id, seq, create_at)
+VALUES (2,8, 1, '2024-05-27 14:42:00');
@@ -4,21 +4,24 @@ const TIME_API_ENDPOINT = '/times';
 const THEME_API_ENDPOINT = '/themes';
 const timesOptions = [];
 const themesOptions = [];
+let nextCursor = null;
 
 document.addEventListener('DOMContentLoaded', () => {
   document.getElementById('add-button').addEventListener('click', addInputRow);
 
   requestRead(RESERVATION_API_ENDPOINT)
-      .then(render)
+      .then(page => renderPage(page, false))
       .catch(error => console.error('Error fetching reservations:', error));
 
   fetchTimes();
   fetchThemes();
 });
 
-function render(data) {
+function render(data, append) {
   const tableBody = document.getElementById('table-body');
-  tableBody.innerHTML = '';
+  if (!append) {
+    tableBody.innerHTML = '';
+  }
 
   data.forEach(item => {
     const row = tableBody.insertRow();
@@ -38,6 +41,28 @@ function render(data) {
   });
 }
 
+function renderPage(page, append) {
+  render(page.content, append);
+  nextCursor = page.nextCursor;
+  updateMoreButton();
+}
+
+function updateMoreButton() {
+  let button = document.getElementById('more-button');
+  if (!button) {
+    button = createActionButton('더 보기', 'btn-secondary', loadNextPage);
+    button.id = 'more-button';
+    document.getElementById('table-body').closest('table').after(button);
+  }
+  button.style.display = nextCursor ? '' : 'none';
+}
+
+function loadNextPage() {
+  requestRead(`${RESERVATION_API_ENDPOINT}?cursor=${encodeURIComponent(nextCursor)}`)
+    .then(page => renderPage(page, true))
+    .catch(error => console.error('Error fetching reservations:', error));
+}
+
 function fetchTimes() {
   requestRead(TIME_API_ENDPOINT)
       .then(data => {
@@ -6,13 +6,15 @@ const MEMBER_API_ENDPOINT = '/members';
 const timesOptions = [];
 const themesOptions = [];
 const membersOptions = [];
+let nextCursor = null;
+let pageEndpoint = RESERVATION_API_ENDPOINT;
 
 document.addEventListener('DOMContentLoaded', () => {
     document.getElementById('add-button').addEventListener('click', addInputRow);
     document.getElementById('filter-form').addEventListener('submit', applyFilter);
 
     requestRead(RESERVATION_API_ENDPOINT)
-        .then(render)
+        .then(page => renderPage(page, false))
         .catch(error => console.error('Error fetching reservations:', error));
 
     fetchTimes();
@@ -20,9 +22,11 @@ document.addEventListener('DOMContentLoaded', () => {
     fetchMembers();
 });
 
-function render(data) {
+function render(data, append) {
     const tableBody = document.getElementById('table-body');
-    tableBody.innerHTML = '';
+    if (!append) {
+        tableBody.innerHTML = '';
+    }
 
     data.forEach(item => {
         const row = tableBody.insertRow();
@@ -42,6 +46,29 @@ function render(data) {
     });
 }
 
+function renderPage(page, append) {
+    render(page.content, append);
+    nextCursor = page.nextCursor;
+    updateMoreButton();
+}
+
+function updateMoreButton() {
+    let button = document.getElementById('more-button');
+    if (!button) {
+        button = createActionButton('더 보기', 'btn-secondary', loadNextPage);
+        button.id = 'more-button';
+        document.getElementById('table-body').closest('table').after(button);
+    }
+    button.style.display = nextCursor ? '' : 'none';
+}
+
+function loadNextPage() {
+    const separator = pageEndpoint.includes('?') ? '&' : '?';
+    requestRead(`${pageEndpoint}${separator}cursor=${encodeURIComponent(nextCursor)}`)
+        .then(page => renderPage(page, true))
+        .catch(error => console.error('Error fetching reservations:', error));
+}
+
 function fetchTimes() {
     requestRead(TIME_API_ENDPOINT)
         .then(data => {
@@ -200,20 +227,12 @@ function applyFilter(event) {
     TODO: [6단계] 예약 검색 - 조건에 따른 예약 조회 API 호출
           요청 포맷에 맞게 설정
     */
-    fetch('/admin' + RESERVATION_API_ENDPOINT + '/search?' + new URLSearchParams({
-        themeId: themeId,
-        memberId: memberId,
-        dateFrom: dateFrom,
-        dateTo: dateTo
-    }), { // 예약 검색 API 호출
-        method: 'GET',
-        headers: {
-            'Content-Type': 'application/json'
-        },
-    }).then(response => {
-        if (response.status === 200) return response.json();
-        throw new Error('Read failed');
-    }).then(render)
+    const conditions = Object.entries({themeId, memberId, dateFrom, dateTo})
+        .filter(([, value]) => value);
+    pageEndpoint = '/admin' + RESERVATION_API_ENDPOINT + '/search?' + new URLSearchParams(conditions);
+
+    requestRead(pageEndpoint) // 예약 검색 API 호출
+        .then(page => renderPage(page, false))
         .catch(error => console.error("Error fetching available times:", error));
 }
 
@@ -1,18 +1,36 @@
 const THEME_API_ENDPOINT = '/themes';
 const RESERVATION_API_ENDPOINT = '/reservations';
 const RESERVATION_WAITING_API_ENDPOINT = '/waiting-reservations';
+const AVAILABILITY_API_ENDPOINT = '/reservations/availability';
+const HOLD_API_ENDPOINT = '/reservations/holds';
+
+const availabilityCache = {}; // themeId -> { date -> [times] }
+let lastThemeId = null;
+let datepicker = null;
+let slotEventSource = null;
+let heldSlot = null; // 내가 잡아 둔 시간 { themeId, timeId, date }
 
 document.addEventListener('DOMContentLoaded', () => {
     requestRead(THEME_API_ENDPOINT)
         .then(renderTheme)
         .catch(error => console.error('Error fetching times:', error));
 
-    flatpickr("#datepicker", {
+    datepicker = flatpickr("#datepicker", {
         inline: true,
         onChange: function (selectedDates, dateStr, instance) {
             if (dateStr === '') return;
             checkDate();
         },
+        onMonthChange: function (selectedDates, dateStr, instance) {
+            if (lastThemeId) fetchMonthAvailability(lastThemeId, instance.currentYear, instance.currentMonth);
+        },
+        onDayCreate: function (dObj, dStr, instance, dayElem) {
+            // 선택한 테마 기준으로 예약 가능한 시간이 없는 날짜는 회색으로 표시
+            const times = availabilityCache[lastThemeId]?.[formatDate(dayElem.dateObj)];
+            if (times && times.every(time => time.alreadyBooked)) {
+                dayElem.classList.add('fully-booked');
+            }
+        },
         disable: [
             function (date) {
                 // 과거 날짜 선택 비활성화
@@ -34,6 +52,9 @@ document.addEventListener('DOMContentLoaded', () => {
             document.querySelectorAll('.time-slot').forEach(slot => slot.classList.remove('active'));
             event.target.classList.add('active');
             checkDateAndThemeAndTime();
+
+            if (event.target.getAttribute('data-time-booked') === 'true') releaseHold();
+            else holdSelectedTime(event.target);
         }
     });
 
@@ -83,10 +104,63 @@ function checkDateAndTheme() {
     const selectedThemeElement = document.querySelector('.theme-slot.active');
     if (selectedDate && selectedThemeElement) {
         const selectedThemeId = selectedThemeElement.getAttribute('data-theme-id');
-        fetchAvailableTimes(selectedDate, selectedThemeId);
+        lastThemeId = selectedThemeId;
+        subscribeSlotChanges(selectedDate, selectedThemeId);
+
+        const cachedTimes = availabilityCache[selectedThemeId]?.[selectedDate];
+        if (cachedTimes) {
+            renderAvailableTimes(cachedTimes);
+            return;
+        }
+        const [year, month] = selectedDate.split('-').map(Number);
+        fetchMonthAvailability(selectedThemeId, year, month - 1)
+            .then(() => {
+                const times = availabilityCache[selectedThemeId]?.[selectedDate];
+                if (times) renderAvailableTimes(times);
+                else fetchAvailableTimes(selectedDate, selectedThemeId);
+            });
     }
 }
 
+function fetchMonthAvailability(themeId, year, month) {
+    const from = formatDate(new Date(year, month, 1));
+    const to = formatDate(new Date(year, month + 1, 0));
+
+    return requestRead(`${AVAILABILITY_API_ENDPOINT}?themeId=${themeId}&from=${from}&to=${to}`)
+        .then(days => {
+            const themeCache = availabilityCache[themeId] || (availabilityCache[themeId] = {});
+            days.forEach(day => themeCache[day.date] = day.times);
+            if (datepicker) datepicker.redraw();
+        })
+        .catch(error => console.error("Error fetching availability:", error));
+}
+
+function subscribeSlotChanges(date, themeId) {
+    if (slotEventSource) slotEventSource.close();
+
+    slotEventSource = new EventSource(`${RESERVATION_API_ENDPOINT}/times/${themeId}/stream?date=${date}`);
+    slotEventSource.addEventListener('slot', event => {
+        const change = JSON.parse(event.data);
+        if (isHeldByMe(themeId, change.timeId, date)) return;
+        const cachedTimes = availabilityCache[themeId]?.[date];
+        cachedTimes?.filter(time => time.timeId === change.timeId)
+            .forEach(time => time.alreadyBooked = change.booked);
+
+        const slot = document.querySelector(`.time-slot[data-time-id="${change.timeId}"]`);
+        if (slot) {
+            slot.setAttribute('data-time-booked', change.booked);
+            if (slot.classList.contains('active')) checkDateAndThemeAndTime();
+        }
+        if (datepicker) datepicker.redraw();
+    });
+}
+
+function formatDate(date) {
+    const month = String(date.getMonth() + 1).padStart(2, '0');
+    const day = String(date.getDate()).padStart(2, '0');
+    return `${date.getFullYear()}-${month}-${day}`;
+}
+
 function fetchAvailableTimes(date, themeId) {
     fetch(`${RESERVATION_API_ENDPOINT}/times/${themeId}?date=${date}`, { // 예약 가능 시간 조회 API endpoint
         method: 'GET',
@@ -240,3 +314,46 @@ function requestRead(endpoint) {
             });
         });
 }
+
+function holdSelectedTime(timeElement) {
+    const slot = {
+        themeId: document.querySelector('.theme-slot.active')?.getAttribute('data-theme-id'),
+        timeId: timeElement.getAttribute('data-time-id'),
+        date: document.getElementById("datepicker").value,
+    };
+    releaseHold();
+
+    // 예약을 확정하기 전까지 다른 사용자가 선택한 시간을 가져가지 못하도록 잠시 잡아 둔다.
+    fetch(HOLD_API_ENDPOINT, {
+        method: 'POST',
+        headers: {
+            'Content-Type': 'application/json',
+        },
+        body: JSON.stringify(slot)
+    }).then(response => {
+        if (response.status === 200) {
+            heldSlot = slot;
+            return;
+        }
+        response.text().then(text => alert('ERROR! ' + text));
+        timeElement.setAttribute('data-time-booked', true);
+        checkDateAndThemeAndTime();
+    }).catch(error => console.error("Error holding time:", error));
+}
+
+function releaseHold() {
+    if (!heldSlot) return;
+    const {themeId, timeId, date} = heldSlot;
+    heldSlot = null;
+
+    fetch(`${HOLD_API_ENDPOINT}?themeId=${themeId}&timeId=${timeId}&date=${date}`, {
+        method: 'DELETE',
+    }).catch(error => console.error("Error releasing time:", error));
+}
+
+function isHeldByMe(themeId, timeId, date) {
+    return heldSlot !== null
+        && String(heldSlot.themeId) === String(themeId)
+        && String(heldSlot.timeId) === String(timeId)
+        && heldSlot.date === date;
+}
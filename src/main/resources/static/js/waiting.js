@@ -1,20 +1,21 @@
+const WAITING_API_ENDPOINT = '/waiting-reservations';
+let nextCursor = null;
+
 document.addEventListener('DOMContentLoaded', () => {
     /*
     TODO: [4단계] 예약 대기 관리 기능
           예약 대기 목록 조회 endpoint 설정
      */
-    fetch('/waiting-reservations') // 내 예약 목록 조회 API 호출
-        .then(response => {
-            if (response.status === 200) return response.json();
-            throw new Error('Read failed');
-        })
-        .then(render)
+    requestRead(WAITING_API_ENDPOINT) // 예약 대기 목록 조회 API 호출
+        .then(page => renderPage(page, false))
         .catch(error => console.error('Error fetching reservations:', error));
 });
 
-function render(data) {
+function render(data, append) {
     const tableBody = document.getElementById('table-body');
-    tableBody.innerHTML = '';
+    if (!append) {
+        tableBody.innerHTML = '';
+    }
 
     data.forEach(item => {
         const row = tableBody.insertRow();
@@ -38,6 +39,36 @@ function render(data) {
     });
 }
 
+function renderPage(page, append) {
+    render(page.content, append);
+    nextCursor = page.nextCursor;
+    updateMoreButton();
+}
+
+function updateMoreButton() {
+    let button = document.getElementById('more-button');
+    if (!button) {
+        button = createActionButton('더 보기', 'btn-secondary', loadNextPage);
+        button.id = 'more-button';
+        document.getElementById('table-body').closest('table').after(button);
+    }
+    button.style.display = nextCursor ? '' : 'none';
+}
+
+function loadNextPage() {
+    requestRead(`${WAITING_API_ENDPOINT}?cursor=${encodeURIComponent(nextCursor)}`)
+        .then(page => renderPage(page, true))
+        .catch(error => console.error('Error fetching reservations:', error));
+}
+
+function requestRead(endpoint) {
+    return fetch(endpoint)
+        .then(response => {
+            if (response.status === 200) return response.json();
+            throw new Error('Read failed');
+        });
+}
+
 function approve(event) {
     const row = event.target.closest('tr');
     const id = row.cells[0].textContent;
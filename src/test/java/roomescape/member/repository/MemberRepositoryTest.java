@@ -16,6 +16,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
 import roomescape.member.domain.Member;
 import roomescape.member.domain.MemberRole;
+import roomescape.member.dto.MemberProfileInfo;
 
 @DataJpaTest
 class MemberRepositoryTest {
@@ -97,6 +98,21 @@ class MemberRepositoryTest {
         assertThat(actual).containsExactly(member1, member2);
     }
 
+    @Test
+    @DisplayName("성공 : 주어진 권한인 회원의 프로필 정보만 조회할 수 있다.")
+    void findProfilesByRole() {
+        // Given
+        entityManager.persist(new Member(null, "어드민", "admin@admin.com", "1234", MemberRole.ADMIN));
+        Member member = new Member(null, "도비", "kimdobby@wootaeco.com", "pass1", MemberRole.USER);
+        entityManager.persist(member);
+
+        // When
+        List<MemberProfileInfo> actual = memberRepository.findProfilesByRole(MemberRole.USER);
+
+        // Then
+        assertThat(actual).containsExactly(MemberProfileInfo.from(member));
+    }
+
     @Test
     @DisplayName("성공 : id로 회원 정보를 찾아 지운다.")
     void deleteById() {
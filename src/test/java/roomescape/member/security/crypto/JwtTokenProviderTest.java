@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Date;
 import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,16 +32,12 @@ class JwtTokenProviderTest {
         String token = jwtTokenProvider.createToken(TEST_MEMBER, now);
         assertNotNull(token);
 
-        // 토큰 검증
-        boolean isValid = jwtTokenProvider.validateToken(token);
-        assertTrue(isValid);
-
-        // Payload 추출
-        Map<String, String> payload = jwtTokenProvider.getPayload(token);
-        assertNotNull(payload);
+        // 토큰 검증 및 Payload 추출
+        Map<String, String> payload = jwtTokenProvider.findPayload(token).orElseThrow();
         assertEquals(USER_TEST_COM, payload.get("email"));
         assertEquals(USER_NAME, payload.get("name"));
         assertEquals("1", payload.get("id"));
+        assertEquals("USER", payload.get("role"));
     }
 
     @Test
@@ -52,8 +49,52 @@ class JwtTokenProviderTest {
         String expiredToken = jwtTokenProvider.createToken(TEST_MEMBER, past);
 
         // 만료된 토큰 검증
-        boolean isValid = jwtTokenProvider.validateToken(expiredToken);
-        assertFalse(isValid);
+        assertFalse(jwtTokenProvider.findPayload(expiredToken).isPresent());
+    }
+
+    @Test
+    @DisplayName("유효한 토큰은 한 번의 파싱으로 페이로드를 반환한다")
+    void findPayload() {
+        String token = jwtTokenProvider.createToken(TEST_MEMBER, new Date());
+
+        Optional<Map<String, String>> payload = jwtTokenProvider.findPayload(token);
+
+        assertTrue(payload.isPresent());
+        assertEquals("1", payload.get().get("id"));
+        assertEquals(USER_NAME, payload.get().get("name"));
+    }
+
+    @Test
+    @DisplayName("만료되었거나 변조된 토큰은 페이로드를 반환하지 않는다")
+    void findPayload_Invalid() {
+        Date past = new Date(new Date().getTime() - validityInMilliseconds - 1);
+        String expiredToken = jwtTokenProvider.createToken(TEST_MEMBER, past);
+
+        assertTrue(jwtTokenProvider.findPayload(expiredToken).isEmpty());
+        assertTrue(jwtTokenProvider.findPayload("invalid-token").isEmpty());
+    }
+
+    @Test
+    @DisplayName("한 번 검증된 토큰은 다시 검증해도 같은 페이로드를 반환한다")
+    void findPayload_Cached() {
+        String token = jwtTokenProvider.createToken(TEST_MEMBER, new Date());
+
+        Optional<Map<String, String>> first = jwtTokenProvider.findPayload(token);
+        Optional<Map<String, String>> second = jwtTokenProvider.findPayload(token);
+
+        assertTrue(first.isPresent());
+        assertEquals(first, second);
     }
-}
 
+    @Test
+    @DisplayName("서명이 변조된 토큰은 검증된 토큰과 구분된다")
+    void findPayload_TamperedSignature() {
+        String token = jwtTokenProvider.createToken(TEST_MEMBER, new Date());
+        jwtTokenProvider.findPayload(token);
+
+        String tampered = token.substring(0, token.length() - 2)
+                          + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertTrue(jwtTokenProvider.findPayload(tampered).isEmpty());
+    }
+}
@@ -3,9 +3,12 @@ package roomescape.member.security.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Map;
+import java.util.Optional;
 
 import jakarta.servlet.http.Cookie;
 
@@ -18,16 +21,23 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import roomescape.exception.AuthorizationMismatchExpiredException;
 import roomescape.member.domain.Member;
+import roomescape.member.domain.MemberRole;
 import roomescape.member.dto.MemberLoginRequest;
+import roomescape.member.dto.MemberPrincipal;
+import roomescape.member.dto.PasswordVerification;
+import roomescape.member.repository.MemberRepository;
 import roomescape.member.security.crypto.JwtTokenProvider;
-import roomescape.member.security.crypto.PasswordBcryptEncoder;
 
 @ExtendWith(MockitoExtension.class)
 class MemberAuthServiceTest {
     @Mock
-    private PasswordBcryptEncoder passwordBcryptEncoder;
+    private PasswordVerifier passwordVerifier;
     @Mock
     private JwtTokenProvider jwtTokenProvider;
+    @Mock
+    private MemberRoleCache memberRoleCache;
+    @Mock
+    private MemberRepository memberRepository;
     @InjectMocks
     private MemberAuthService memberAuthService;
 
@@ -40,13 +50,50 @@ class MemberAuthServiceTest {
         MemberLoginRequest loginRequest = new MemberLoginRequest("user@example.com", "wrongPassword");
 
         // Expectations
-        when(passwordBcryptEncoder.matches(loginRequest.password(), member.getPassword())).thenReturn(false);
+        when(passwordVerifier.verify(loginRequest.password(), member.getPassword()))
+                .thenReturn(PasswordVerification.mismatched());
 
         // When & Then
         assertThrows(AuthorizationMismatchExpiredException.class,
                 () -> memberAuthService.validateAuthentication(member, loginRequest));
     }
 
+    @Test
+    @DisplayName("낮은 비용으로 해시된 비밀번호는 로그인에 성공하면 다시 해시해 저장한다")
+    void validateAuthentication_ShouldRehash_WhenEncodingNeedsUpgrade() {
+        // Given
+        Member member = new Member(1L, "name", "user@example.com", "weakHash");
+        MemberLoginRequest loginRequest = new MemberLoginRequest("user@example.com", "password");
+
+        // Expectations
+        when(passwordVerifier.verify(loginRequest.password(), member.getPassword()))
+                .thenReturn(PasswordVerification.matched("strongHash"));
+
+        // When
+        memberAuthService.validateAuthentication(member, loginRequest);
+
+        // Then
+        verify(memberRepository).updatePasswordById(1L, "strongHash");
+    }
+
+    @Test
+    @DisplayName("해시 비용이 충분하면 로그인에 성공해도 비밀번호를 다시 저장하지 않는다")
+    void validateAuthentication_ShouldNotRehash_WhenEncodingIsCurrent() {
+        // Given
+        Member member = new Member(1L, "name", "user@example.com", "currentHash");
+        MemberLoginRequest loginRequest = new MemberLoginRequest("user@example.com", "password");
+
+        // Expectations
+        when(passwordVerifier.verify(loginRequest.password(), member.getPassword()))
+                .thenReturn(PasswordVerification.matched(null));
+
+        // When
+        memberAuthService.validateAuthentication(member, loginRequest);
+
+        // Then
+        verify(memberRepository, never()).updatePasswordById(any(), any());
+    }
+
     @Test
     @DisplayName("유효한 사용자 정보로 토큰을 발행한다")
     void publishToken_ShouldReturnToken_WhenGivenValidUserInfo() {
@@ -62,24 +109,31 @@ class MemberAuthServiceTest {
 
         // Then
         assertEquals(expectedToken, token);
+        verify(memberRoleCache).update(member.getId(), MemberRole.USER);
     }
 
     @Test
-    @DisplayName("쿠키에 존재하는 토큰의 Payload에서 사용자 이름을 추출한다.")
-    void extractNameFromPayload_ShouldReturnLoginResponse_WhenCookiesContainValidToken() {
+    @DisplayName("쿠키에 존재하는 토큰을 한 번만 검증해 사용자 정보를 얻는다.")
+    void authenticate_ShouldReturnProfile_WhenCookiesContainValidToken() {
         // Given
         Cookie[] cookies = new Cookie[]{new Cookie("token", "validToken")};
-        Map<String, String> payload = Map.of("name", "Dobby", "email", "kimdobby@wotaeco.com");
-        String expectedName = "Dobby";
+        Map<String, String> payload = Map.of(
+                "id", "1", "name", "Dobby", "email", "kimdobby@wotaeco.com", "role", "ADMIN");
 
         // Expectations
-        when(jwtTokenProvider.getPayload("validToken")).thenReturn(payload);
+        when(jwtTokenProvider.findPayload("validToken")).thenReturn(Optional.of(payload));
 
         // When
-        String nameFromPayload = memberAuthService.extractNameFromPayload(cookies);
+        Optional<MemberPrincipal> principal = memberAuthService.authenticate(cookies);
 
         // Then
-        assertEquals(payload.get("name"), nameFromPayload);
+        assertEquals(Optional.of(new MemberPrincipal(1L, "Dobby", "kimdobby@wotaeco.com", MemberRole.ADMIN)),
+                principal);
     }
-}
 
+    @Test
+    @DisplayName("쿠키가 없으면 사용자 정보를 얻을 수 없다.")
+    void authenticate_ShouldReturnEmpty_WhenCookiesDoNotExist() {
+        assertEquals(Optional.empty(), memberAuthService.authenticate(null));
+    }
+}
@@ -0,0 +1,106 @@
+package roomescape.member.security.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import roomescape.member.domain.Member;
+import roomescape.member.domain.MemberRole;
+import roomescape.member.repository.MemberRepository;
+
+@ExtendWith(MockitoExtension.class)
+class MemberRoleCacheTest {
+    private static final long TTL_MILLIS = 500;
+
+    @Mock
+    private MemberRepository memberRepository;
+    private MemberRoleCache memberRoleCache;
+
+    @BeforeEach
+    void setUp() {
+        memberRoleCache = new MemberRoleCache(memberRepository, TTL_MILLIS);
+    }
+
+    @Test
+    @DisplayName("성공 : 처음 확인한 권한은 저장해 두고 다시 조회하지 않는다.")
+    void isAdmin_Cached() {
+        when(memberRepository.findById(1L))
+                .thenReturn(Optional.of(new Member(1L, "어드민", "admin@admin.com", "1234", MemberRole.ADMIN)));
+
+        assertThat(memberRoleCache.isAdmin(1L)).isTrue();
+        assertThat(memberRoleCache.isAdmin(1L)).isTrue();
+        verify(memberRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("성공 : 권한이 바뀌면 저장된 권한도 바로 바뀐다.")
+    void update() {
+        when(memberRepository.findById(1L))
+                .thenReturn(Optional.of(new Member(1L, "범블비", "aa@email.com", "1111")));
+
+        memberRoleCache.update(1L, MemberRole.ADMIN);
+        assertThat(memberRoleCache.isAdmin(1L)).isTrue();
+        verify(memberRepository, never()).findById(1L);
+
+        memberRoleCache.update(1L, MemberRole.USER);
+        assertThat(memberRoleCache.isAdmin(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공 : 관리자가 아닌 회원의 권한은 저장하지 않는다.")
+    void isAdmin_UserNotCached() {
+        when(memberRepository.findById(1L))
+                .thenReturn(Optional.of(new Member(1L, "범블비", "aa@email.com", "1111")));
+
+        assertThat(memberRoleCache.isAdmin(1L)).isFalse();
+        assertThat(memberRoleCache.isAdmin(1L)).isFalse();
+        verify(memberRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("성공 : 저장된 관리자 수가 한도를 넘으면 가장 오래 쓰이지 않은 권한부터 지운다.")
+    void update_Overflow() {
+        when(memberRepository.findById(1L))
+                .thenReturn(Optional.of(new Member(1L, "어드민", "admin@admin.com", "1234", MemberRole.ADMIN)));
+
+        for (long id = 1; id <= 1_001; id++) {
+            memberRoleCache.update(id, MemberRole.ADMIN);
+        }
+
+        assertThat(memberRoleCache.isAdmin(1L)).isTrue();
+        verify(memberRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("성공 : 토큰이 유효한 동안 관리자 권한을 잃으면 저장 기간이 지난 뒤 관리자가 아니다.")
+    void isAdmin_DemotedWhileTokenValid() throws InterruptedException {
+        when(memberRepository.findById(1L))
+                .thenReturn(Optional.of(new Member(1L, "어드민", "admin@admin.com", "1234", MemberRole.USER)));
+        memberRoleCache.update(1L, MemberRole.ADMIN);
+        assertThat(memberRoleCache.isAdmin(1L)).isTrue();
+
+        Thread.sleep(TTL_MILLIS * 2);
+        assertThat(memberRoleCache.isAdmin(1L)).isFalse();
+        assertThat(memberRoleCache.isAdmin(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("실패 : 존재하지 않는 회원은 관리자가 아니다.")
+    void isAdmin_NotExistMember() {
+        when(memberRepository.findById(1L))
+                .thenReturn(Optional.empty());
+
+        assertThat(memberRoleCache.isAdmin(1L)).isFalse();
+    }
+}
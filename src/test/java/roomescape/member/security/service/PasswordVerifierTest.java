@@ -0,0 +1,70 @@
+package roomescape.member.security.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import roomescape.member.dto.PasswordVerification;
+import roomescape.member.security.crypto.PasswordBcryptEncoder;
+
+class PasswordVerifierTest {
+    private final PasswordBcryptEncoder passwordEncoder = new PasswordBcryptEncoder();
+    private final PasswordVerifier passwordVerifier = new PasswordVerifier(passwordEncoder);
+
+    @AfterEach
+    void tearDown() {
+        passwordVerifier.shutdown();
+    }
+
+    @Test
+    @DisplayName("성공 : 비밀번호가 일치하면 검증에 성공한다.")
+    void verify_Matched() {
+        PasswordVerification actual = passwordVerifier.verify("1111", passwordEncoder.encode("1111"));
+
+        assertThat(actual.matched()).isTrue();
+        assertThat(actual.needsUpgrade()).isFalse();
+    }
+
+    @Test
+    @DisplayName("실패 : 비밀번호가 일치하지 않으면 검증에 실패한다.")
+    void verify_Mismatched() {
+        PasswordVerification actual = passwordVerifier.verify("2222", passwordEncoder.encode("1111"));
+
+        assertThat(actual.matched()).isFalse();
+        assertThat(actual.needsUpgrade()).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공 : 낮은 비용으로 해시된 비밀번호는 현재 비용으로 다시 해시한다.")
+    void verify_UpgradeEncoding() {
+        String weakHash = new BCryptPasswordEncoder(4).encode("1111");
+
+        PasswordVerification actual = passwordVerifier.verify("1111", weakHash);
+
+        assertThat(actual.needsUpgrade()).isTrue();
+        assertThat(passwordEncoder.matches("1111", actual.upgradedPassword())).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(actual.upgradedPassword())).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공 : 해시되지 않은 비밀번호는 다시 해시하지 않는다.")
+    void verify_PlainPassword() {
+        PasswordVerification actual = passwordVerifier.verify("1111", "1111");
+
+        assertThat(actual.matched()).isTrue();
+        assertThat(actual.needsUpgrade()).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공 : 검증 작업의 처리량과 지연 시간을 집계한다.")
+    void metrics() {
+        passwordVerifier.verify("1111", "1111");
+
+        assertThat(passwordVerifier.metrics().poolSize()).isEqualTo(Runtime.getRuntime().availableProcessors());
+        assertThat(passwordVerifier.metrics().rejectedCount()).isZero();
+        assertThat(passwordVerifier.metrics().queueDepth()).isZero();
+    }
+}
@@ -41,8 +41,8 @@ class MemberServiceTest {
         // Given
         Member member = new Member(USERNAME, USER_EMAIL, USER_PASSWORD);
         MemberProfileInfo expected = MemberProfileInfo.from(member);
-        when(memberRepository.findAllByRole(any(MemberRole.class)))
-                .thenReturn(List.of(member));
+        when(memberRepository.findProfilesByRole(any(MemberRole.class)))
+                .thenReturn(List.of(expected));
 
         // When
         List<MemberProfileInfo> actual = memberService.findAllMembers();
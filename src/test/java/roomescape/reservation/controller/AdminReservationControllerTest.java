@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -24,9 +25,13 @@ import roomescape.reservation.domain.Reservation;
 import roomescape.reservation.domain.ReservationDetail;
 import roomescape.reservation.domain.ReservationWaiting;
 import roomescape.reservation.dto.ReservationCreateRequest;
+import roomescape.reservation.dto.ReservationImportResponse;
+import roomescape.reservation.dto.ReservationImportRowResponse;
+import roomescape.reservation.dto.ReservedSlot;
 import roomescape.reservation.repository.ReservationDetailRepository;
 import roomescape.reservation.repository.ReservationRepository;
 import roomescape.reservation.repository.ReservationWaitingRepository;
+import roomescape.reservation.service.ReservationHoldRegistry;
 import roomescape.theme.domain.Theme;
 import roomescape.theme.repository.ThemeRepository;
 import roomescape.time.domain.Time;
@@ -50,6 +55,8 @@ class AdminReservationControllerTest {
     private ThemeRepository themeRepository;
     @Autowired
     private TimeRepository timeRepository;
+    @Autowired
+    private ReservationHoldRegistry holdRegistry;
 
     private String cookie;
     private Member member = new Member(1L, "관리자", "aa@email.com", "1111", MemberRole.ADMIN);
@@ -57,7 +64,7 @@ class AdminReservationControllerTest {
     private Time time = new Time(LocalTime.of(12, 0));
     private ReservationDetail reservationDetail = new ReservationDetail(theme, time, LocalDate.MAX.minusDays(1));
     private Reservation reservation = new Reservation(member, reservationDetail);
-    private ReservationWaiting waiting = new ReservationWaiting(member, reservationDetail);
+    private ReservationWaiting waiting = new ReservationWaiting(member, reservationDetail, 1L);
 
     @BeforeEach
     void login() {
@@ -95,11 +102,79 @@ class AdminReservationControllerTest {
                 .then()
                 .statusCode(200)
                 .extract()
-                .jsonPath().getInt("size()");
+                .jsonPath().getInt("content.size()");
 
         assertThat(actualSize).isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("성공 : 주어진 조건만으로 예약 정보를 검색할 수 있다.")
+    void findReservationsInCondition_PartialCondition() {
+        reservation = reservationRepository.save(reservation);
+
+        int actualSize = RestAssured.given()
+                .cookie("token", cookie)
+                .when()
+                .get("/admin/reservations/search?themeId=" + theme.getId())
+                .then()
+                .statusCode(200)
+                .extract()
+                .jsonPath().getInt("content.size()");
+
+        assertThat(actualSize).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공 : 예약 정보를 NDJSON으로 내보낼 수 있다.")
+    void exportReservations_Ndjson() {
+        reservation = reservationRepository.save(reservation);
+
+        String body = RestAssured.given()
+                .cookie("token", cookie)
+                .when()
+                .get("/admin/reservations/export?format=ndjson")
+                .then()
+                .statusCode(200)
+                .contentType("application/x-ndjson")
+                .extract()
+                .asString();
+
+        assertThat(body.lines()).containsExactly(
+                "{\"id\":%d,\"name\":\"관리자\",\"theme\":\"Harry Potter\",\"date\":\"%s\",\"time\":\"12:00\"}"
+                        .formatted(reservation.getId(), reservationDetail.getDate()));
+    }
+
+    @Test
+    @DisplayName("성공 : 예약 정보를 CSV로 내보낼 수 있다.")
+    void exportReservations_Csv() {
+        reservation = reservationRepository.save(reservation);
+
+        String body = RestAssured.given()
+                .cookie("token", cookie)
+                .when()
+                .get("/admin/reservations/export?format=csv")
+                .then()
+                .statusCode(200)
+                .contentType("text/csv")
+                .extract()
+                .asString();
+
+        assertThat(body.lines()).containsExactly(
+                "id,name,theme,date,time",
+                "%d,관리자,Harry Potter,%s,12:00".formatted(reservation.getId(), reservationDetail.getDate()));
+    }
+
+    @Test
+    @DisplayName("실패 : 지원하지 않는 형식으로 예약 정보를 내보낼 수 없다.")
+    void exportReservations_UnsupportedFormat() {
+        RestAssured.given()
+                .cookie("token", cookie)
+                .when()
+                .get("/admin/reservations/export?format=xml")
+                .then()
+                .statusCode(400);
+    }
+
     @Test
     @DisplayName("성공 : 예약을 만들 수 있다.")
     void createReservation() {
@@ -123,4 +198,146 @@ class AdminReservationControllerTest {
         List<Reservation> actual = reservationRepository.findAll();
         assertThat(actual).hasSize(1);
     }
+
+    @Test
+    @DisplayName("성공 : 여러 예약을 한 번에 등록하고 행마다 결과를 알 수 있다.")
+    void importReservations() {
+        reservation = reservationRepository.save(reservation);
+        LocalDate newDate = reservationDetail.getDate().minusDays(1);
+        List<ReservationCreateRequest> params = List.of(
+                new ReservationCreateRequest(member.getId(), theme.getId(), time.getId(), newDate),
+                new ReservationCreateRequest(member.getId(), theme.getId(), time.getId(), reservationDetail.getDate()),
+                new ReservationCreateRequest(member.getId(), 0L, time.getId(), newDate),
+                new ReservationCreateRequest(member.getId(), theme.getId(), time.getId(), newDate));
+
+        ReservationImportResponse response = RestAssured.given()
+                .contentType(ContentType.JSON)
+                .cookie("token", cookie)
+                .body(params)
+                .when()
+                .post("/admin/reservations/bulk")
+                .then()
+                .statusCode(200)
+                .extract()
+                .as(ReservationImportResponse.class);
+
+        assertThat(response.created()).isEqualTo(1);
+        assertThat(response.rejected()).isEqualTo(3);
+        assertThat(response.rows().get(0).reservationId()).isNotNull();
+        assertThat(response.rows())
+                .extracting(ReservationImportRowResponse::message)
+                .containsExactly(
+                        null,
+                        "해당 테마의 해당 시간에는 이미 예약이 존재합니다.",
+                        "선택하신 테마가 존재하지 않습니다.",
+                        "해당 테마의 해당 시간에는 이미 예약이 존재합니다.");
+        assertThat(reservationRepository.findAll()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("성공 : JSON 배열의 잘못된 항목은 해당 행만 거절하고 나머지는 등록한다.")
+    void importReservations_MalformedElement() {
+        LocalDate newDate = reservationDetail.getDate().minusDays(1);
+        String body = "[%s, {\"memberId\":\"abc\"}, \"not a reservation\", null]".formatted(
+                "{\"memberId\":%d,\"themeId\":%d,\"timeId\":%d,\"date\":\"%s\"}"
+                        .formatted(member.getId(), theme.getId(), time.getId(), newDate));
+
+        ReservationImportResponse response = RestAssured.given()
+                .contentType(ContentType.JSON)
+                .cookie("token", cookie)
+                .body(body)
+                .when()
+                .post("/admin/reservations/bulk")
+                .then()
+                .statusCode(200)
+                .extract()
+                .as(ReservationImportResponse.class);
+
+        assertThat(response.created()).isEqualTo(1);
+        assertThat(response.rejected()).isEqualTo(3);
+        assertThat(response.rows())
+                .extracting(ReservationImportRowResponse::message)
+                .containsExactly(null, "예약 정보가 올바르지 않습니다.", "예약 정보가 올바르지 않습니다.",
+                        "예약 정보가 올바르지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("실패 : 다른 사용자가 예약 중인 시간은 일괄 등록에서 거절한다.")
+    void importReservations_HeldByOther() {
+        Member other = memberRepository.save(new Member("켬미", "bb@email.com", "1111"));
+        LocalDate newDate = reservationDetail.getDate().minusDays(1);
+        ReservedSlot slot = new ReservedSlot(theme.getId(), time.getId(), newDate);
+        holdRegistry.hold(other.getId(), slot);
+        List<ReservationCreateRequest> params = List.of(
+                new ReservationCreateRequest(member.getId(), theme.getId(), time.getId(), newDate));
+
+        ReservationImportResponse response;
+        try {
+            response = RestAssured.given()
+                    .contentType(ContentType.JSON)
+                    .cookie("token", cookie)
+                    .body(params)
+                    .when()
+                    .post("/admin/reservations/bulk")
+                    .then()
+                    .statusCode(200)
+                    .extract()
+                    .as(ReservationImportResponse.class);
+        } finally {
+            holdRegistry.release(other.getId(), slot);
+        }
+
+        assertThat(response.created()).isZero();
+        assertThat(response.rows())
+                .extracting(ReservationImportRowResponse::message)
+                .containsExactly("다른 사용자가 예약 중인 시간입니다.");
+        assertThat(reservationRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공 : NDJSON으로 여러 예약을 한 번에 등록할 수 있다.")
+    void importReservations_Ndjson() {
+        LocalDate newDate = reservationDetail.getDate().minusDays(1);
+        String lines = String.join("\n",
+                "{\"memberId\":%d,\"themeId\":%d,\"timeId\":%d,\"date\":\"%s\"}"
+                        .formatted(member.getId(), theme.getId(), time.getId(), reservationDetail.getDate()),
+                "{\"memberId\":%d,\"themeId\":%d,\"timeId\":%d,\"date\":\"%s\"}"
+                        .formatted(member.getId(), theme.getId(), time.getId(), newDate),
+                "not a reservation");
+
+        ReservationImportResponse response = RestAssured.given()
+                .contentType("application/x-ndjson")
+                .cookie("token", cookie)
+                .body(lines)
+                .when()
+                .post("/admin/reservations/bulk")
+                .then()
+                .statusCode(200)
+                .extract()
+                .as(ReservationImportResponse.class);
+
+        assertThat(response.created()).isEqualTo(2);
+        assertThat(response.rejected()).isEqualTo(1);
+        assertThat(reservationRepository.findAll()).hasSize(2);
+        assertThat(detailRepository.findAll()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("실패 : 한 번에 등록할 수 있는 예약 수를 넘기면 거절한다.")
+    void importReservations_Ndjson_TooMany() {
+        String line = "{\"memberId\":%d,\"themeId\":%d,\"timeId\":%d,\"date\":\"%s\"}"
+                .formatted(member.getId(), theme.getId(), time.getId(), reservationDetail.getDate());
+        String lines = String.join("\n", Collections.nCopies(10_001, line));
+
+        RestAssured.given()
+                .contentType("application/x-ndjson")
+                .cookie("token", cookie)
+                .body(lines)
+                .when()
+                .post("/admin/reservations/bulk")
+                .then()
+                .statusCode(400);
+
+        assertThat(reservationRepository.findAll()).isEmpty();
+    }
 }
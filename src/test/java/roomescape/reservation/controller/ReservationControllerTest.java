@@ -7,6 +7,7 @@ import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +19,7 @@ import org.springframework.test.context.jdbc.Sql;
 
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
 import roomescape.member.domain.Member;
 import roomescape.member.dto.MemberLoginRequest;
 import roomescape.member.repository.MemberRepository;
@@ -29,6 +31,8 @@ import roomescape.reservation.dto.ReservationTimeAvailabilityResponse;
 import roomescape.reservation.repository.ReservationDetailRepository;
 import roomescape.reservation.repository.ReservationRepository;
 import roomescape.reservation.repository.ReservationWaitingRepository;
+import roomescape.reservation.service.ReservationAvailabilityIndex;
+import roomescape.reservation.service.WaitingPromoter;
 import roomescape.theme.domain.Theme;
 import roomescape.theme.repository.ThemeRepository;
 import roomescape.time.domain.Time;
@@ -52,6 +56,10 @@ class ReservationControllerTest {
     private ThemeRepository themeRepository;
     @Autowired
     private TimeRepository timeRepository;
+    @Autowired
+    private ReservationAvailabilityIndex availabilityIndex;
+    @Autowired
+    private WaitingPromoter waitingPromoter;
 
     private String cookie;
     private Member member = new Member("범블비", "aa@email.com", "1111");
@@ -59,7 +67,7 @@ class ReservationControllerTest {
     private Time time = new Time(LocalTime.of(12, 0));
     private ReservationDetail reservationDetail = new ReservationDetail(theme, time, LocalDate.MAX);
     private Reservation reservation = new Reservation(member, reservationDetail);
-    private ReservationWaiting waiting = new ReservationWaiting(member, reservationDetail);
+    private ReservationWaiting waiting = new ReservationWaiting(member, reservationDetail, 1L);
 
     @BeforeEach
     void login() {
@@ -95,11 +103,61 @@ class ReservationControllerTest {
                 .then()
                 .statusCode(200)
                 .extract()
-                .jsonPath().getInt("size()");
+                .jsonPath().getInt("content.size()");
 
         assertThat(actualSize).isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("성공 : 예약 정보를 날짜, 시간 순서로 커서를 따라 나누어 조회할 수 있다.")
+    void findReservations_Paged() {
+        LocalDate date = LocalDate.now().plusDays(1);
+        ReservationDetail first = detailRepository.save(new ReservationDetail(theme, time, date));
+        ReservationDetail second = detailRepository.save(new ReservationDetail(theme, time, date.plusDays(1)));
+        Reservation firstReservation = reservationRepository.save(new Reservation(member, first));
+        Reservation secondReservation = reservationRepository.save(new Reservation(member, second));
+        Reservation lastReservation = reservationRepository.save(reservation); // LocalDate.MAX로 가장 마지막
+
+        JsonPath firstPage = RestAssured.given()
+                .cookie("token", cookie)
+                .queryParam("size", 2)
+                .when()
+                .get("/reservations")
+                .then()
+                .statusCode(200)
+                .extract()
+                .jsonPath();
+
+        JsonPath lastPage = RestAssured.given()
+                .cookie("token", cookie)
+                .queryParam("size", 2)
+                .queryParam("cursor", firstPage.getString("nextCursor"))
+                .when()
+                .get("/reservations")
+                .then()
+                .statusCode(200)
+                .extract()
+                .jsonPath();
+
+        assertThat(firstPage.getList("content.id", Long.class))
+                .containsExactly(firstReservation.getId(), secondReservation.getId());
+        assertThat(lastPage.getList("content.id", Long.class))
+                .containsExactly(lastReservation.getId());
+        assertThat(lastPage.getString("nextCursor")).isNull();
+    }
+
+    @Test
+    @DisplayName("실패 : 잘못된 커서로 예약 정보를 조회할 수 없다.")
+    void findReservations_InvalidCursor() {
+        RestAssured.given()
+                .cookie("token", cookie)
+                .queryParam("cursor", "not-a-cursor")
+                .when()
+                .get("/reservations")
+                .then()
+                .statusCode(400);
+    }
+
     @Test
     @DisplayName("성공 : 회원의 예약 및 예약 대기만 조회할 수 있다.")
     void findReservationsByMember() {
@@ -108,7 +166,7 @@ class ReservationControllerTest {
 
         Member otherMember = new Member("켬미", "aa@naver.com", "1234");
         memberRepository.save(otherMember);
-        waitingRepository.save(new ReservationWaiting(otherMember, reservationDetail)); // 해당 예약은 내 예약이 아니므로 조회되지 않음
+        waitingRepository.save(new ReservationWaiting(otherMember, reservationDetail, 2L)); // 해당 예약은 내 예약이 아니므로 조회되지 않음
         reservationRepository.save(reservation); // 해당 예약은 내 예약으로 조회
 
         int actualSize = RestAssured.given()
@@ -131,6 +189,7 @@ class ReservationControllerTest {
         Time otherTime = new Time(LocalTime.of(20, 0));
         timeRepository.save(otherTime); // 예약되지 않은 시간으로 1개는 booked가 false
         reservationRepository.save(reservation); // 예약된 시간 1개는 booked가 true
+        availabilityIndex.reload();
 
         List<ReservationTimeAvailabilityResponse> actual = RestAssured.given()
                 .cookie("token", cookie)
@@ -146,6 +205,65 @@ class ReservationControllerTest {
                 ReservationTimeAvailabilityResponse.from(otherTime, false));
     }
 
+    @Test
+    @DisplayName("성공 : 잡아 둔 시간은 풀기 전까지 예약할 수 없는 시간으로 조회된다.")
+    void holdReservationTime() {
+        LocalDate date = LocalDate.now().plusDays(30);
+        availabilityIndex.reload();
+
+        RestAssured.given()
+                .contentType(ContentType.JSON)
+                .cookie("token", cookie)
+                .body(Map.of("themeId", theme.getId(), "timeId", time.getId(), "date", date.toString()))
+                .when()
+                .post("/reservations/holds")
+                .then()
+                .statusCode(200);
+        List<Boolean> heldBooked = findBooked(date);
+
+        RestAssured.given()
+                .cookie("token", cookie)
+                .when()
+                .delete("/reservations/holds?themeId=" + theme.getId() + "&timeId=" + time.getId() + "&date=" + date)
+                .then()
+                .statusCode(204);
+        List<Boolean> releasedBooked = findBooked(date);
+
+        assertThat(heldBooked).containsExactly(true);
+        assertThat(releasedBooked).containsExactly(false);
+    }
+
+    private List<Boolean> findBooked(LocalDate date) {
+        return RestAssured.given()
+                .when()
+                .get("/reservations/times/" + theme.getId() + "?date=" + date)
+                .then()
+                .statusCode(200)
+                .extract()
+                .jsonPath().getList("alreadyBooked", Boolean.class);
+    }
+
+    @Test
+    @DisplayName("성공 : 기간 내 날짜별 예약 가능 시간을 한 번에 조회한다.")
+    void findReservationAvailability() {
+        LocalDate today = LocalDate.now();
+        ReservationDetail todayDetail = detailRepository.save(new ReservationDetail(theme, time, today));
+        reservationRepository.save(new Reservation(member, todayDetail));
+        availabilityIndex.reload();
+
+        List<Boolean> actual = RestAssured.given()
+                .when()
+                .get("/reservations/availability?themeId=" + theme.getId()
+                     + "&from=" + today
+                     + "&to=" + today.plusDays(2))
+                .then()
+                .statusCode(200)
+                .extract()
+                .jsonPath().getList("available", Boolean.class);
+
+        assertThat(actual).containsExactly(false, true, true);
+    }
+
     @Test
     @DisplayName("성공 : 예약을 만들 수 있다.")
     void createReservation() {
@@ -169,6 +287,33 @@ class ReservationControllerTest {
         assertThat(actual).hasSize(1);
     }
 
+    @Test
+    @DisplayName("성공 : 같은 Idempotency-Key로 다시 예약하면 처음 만든 예약을 돌려준다.")
+    void createReservation_Idempotent() {
+        Map<String, String> params = Map.of(
+                "themeId", reservation.getThemeId().toString(),
+                "timeId", reservation.getTimeId().toString(),
+                "date", reservation.getDate().toString()
+        );
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        for (int i = 0; i < 2; i++) {
+            RestAssured.given()
+                    .contentType(ContentType.JSON)
+                    .cookie("token", cookie)
+                    .header("Idempotency-Key", idempotencyKey)
+                    .body(params)
+                    .when()
+                    .post("/reservations")
+                    .then()
+                    .statusCode(201)
+                    .header("Location", "/reservations/1");
+        }
+
+        List<Reservation> actual = reservationRepository.findAll();
+        assertThat(actual).hasSize(1);
+    }
+
     @Test
     @DisplayName("성공 : 예약 대기를 만들 수 있다.")
     void createWaitingReservation() {
@@ -208,6 +353,64 @@ class ReservationControllerTest {
         assertThat(expected).isEmpty();
     }
 
+    @Test
+    @DisplayName("성공 : 예약을 취소하면 가장 먼저 예약 대기한 회원의 예약으로 바뀐다.")
+    void deleteReservation_PromoteWaiting() {
+        reservationRepository.save(reservation);
+        Member firstMember = memberRepository.save(new Member("켬미", "bb@email.com", "1111"));
+        Member secondMember = memberRepository.save(new Member("도비", "cc@email.com", "1111"));
+        ReservationWaiting firstWaiting = waitingRepository.save(new ReservationWaiting(firstMember, reservationDetail, 1L));
+        ReservationWaiting secondWaiting = waitingRepository.save(new ReservationWaiting(secondMember, reservationDetail, 2L));
+
+        RestAssured.given()
+                .when()
+                .delete("/reservations/1")
+                .then()
+                .statusCode(204);
+        waitingPromoter.drain();
+
+        assertThat(reservationRepository.findAll())
+                .extracting(Reservation::getMemberId)
+                .containsExactly(firstMember.getId());
+        assertThat(waitingRepository.findAll())
+                .extracting(ReservationWaiting::getId)
+                .containsExactly(secondWaiting.getId());
+        assertThat(waitingRepository.findById(firstWaiting.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실패 : 취소된 예약이 예약 대기자에게 넘어가기 전에는 다른 회원이 바로 예약할 수 없다.")
+    void createReservation_BeforePromotion() {
+        reservationRepository.save(reservation);
+        Member waitingMember = memberRepository.save(new Member("켬미", "bb@email.com", "1111"));
+        waitingRepository.save(new ReservationWaiting(waitingMember, reservationDetail, 1L));
+        Map<String, String> params = Map.of(
+                "themeId", reservation.getThemeId().toString(),
+                "timeId", reservation.getTimeId().toString(),
+                "date", reservation.getDate().toString()
+        );
+
+        RestAssured.given()
+                .when()
+                .delete("/reservations/1")
+                .then()
+                .statusCode(204);
+        RestAssured.given()
+                .contentType(ContentType.JSON)
+                .cookie("token", cookie)
+                .body(params)
+                .when()
+                .post("/reservations")
+                .then()
+                .statusCode(409);
+        waitingPromoter.drain();
+
+        assertThat(reservationRepository.findAll())
+                .extracting(Reservation::getMemberId)
+                .containsExactly(waitingMember.getId());
+        assertThat(waitingRepository.findAll()).isEmpty();
+    }
+
     @Test
     @DisplayName("성공 : 예약 대기를 제거할 수 있다.")
     void deleteReservationWaiting() {
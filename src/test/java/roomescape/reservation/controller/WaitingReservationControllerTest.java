@@ -17,6 +17,7 @@ import org.springframework.test.context.jdbc.Sql;
 
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
 import roomescape.member.domain.Member;
 import roomescape.member.dto.MemberLoginRequest;
 import roomescape.member.repository.MemberRepository;
@@ -54,7 +55,7 @@ class WaitingReservationControllerTest {
     private Time time = new Time(LocalTime.of(12, 0));
     private ReservationDetail reservationDetail = new ReservationDetail(theme, time, LocalDate.MAX);
     private Reservation reservation = new Reservation(member, reservationDetail);
-    private ReservationWaiting waiting = new ReservationWaiting(member, reservationDetail);
+    private ReservationWaiting waiting = new ReservationWaiting(member, reservationDetail, 1L);
 
     @BeforeEach
     void login() {
@@ -89,11 +90,51 @@ class WaitingReservationControllerTest {
                 .then()
                 .statusCode(200)
                 .extract()
-                .jsonPath().getInt("size()");
+                .jsonPath().getInt("content.size()");
 
         assertThat(actualSize).isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("성공 : 한 시간에 여러 예약 대기가 있어도 커서를 따라 빠짐없이 나누어 조회할 수 있다.")
+    void findReservations_Paged() {
+        Member other = memberRepository.save(new Member("켬미", "bb@email.com", "1111"));
+        Member another = memberRepository.save(new Member("도비", "cc@email.com", "1111"));
+        ReservationDetail earlier = detailRepository.save(
+                new ReservationDetail(theme, time, LocalDate.now().plusDays(1)));
+        ReservationWaiting first = waitingRepository.save(new ReservationWaiting(member, earlier, 1L));
+        ReservationWaiting second = waitingRepository.save(new ReservationWaiting(other, earlier, 2L));
+        ReservationWaiting third = waitingRepository.save(new ReservationWaiting(another, earlier, 3L));
+        ReservationWaiting last = waitingRepository.save(waiting);
+
+        JsonPath firstPage = RestAssured.given()
+                .cookie("token", cookie)
+                .queryParam("size", 2)
+                .when()
+                .get("/waiting-reservations")
+                .then()
+                .statusCode(200)
+                .extract()
+                .jsonPath();
+
+        JsonPath lastPage = RestAssured.given()
+                .cookie("token", cookie)
+                .queryParam("size", 2)
+                .queryParam("cursor", firstPage.getString("nextCursor"))
+                .when()
+                .get("/waiting-reservations")
+                .then()
+                .statusCode(200)
+                .extract()
+                .jsonPath();
+
+        assertThat(firstPage.getList("content.id", Long.class))
+                .containsExactly(first.getId(), second.getId());
+        assertThat(lastPage.getList("content.id", Long.class))
+                .containsExactly(third.getId(), last.getId());
+        assertThat(lastPage.getString("nextCursor")).isNull();
+    }
+
     @Test
     @DisplayName("성공 : 예약 대기를 만들 수 있다.")
     void createWaitingReservation() {
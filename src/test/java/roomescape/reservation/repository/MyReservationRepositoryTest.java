@@ -0,0 +1,101 @@
+package roomescape.reservation.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import roomescape.member.domain.Member;
+import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.domain.ReservationDetail;
+import roomescape.reservation.domain.ReservationWaiting;
+import roomescape.reservation.dto.MyReservationResponse;
+import roomescape.theme.domain.Theme;
+import roomescape.time.domain.Time;
+
+@DataJpaTest
+@Import(MyReservationRepository.class)
+class MyReservationRepositoryTest {
+    private final LocalDate date = LocalDate.of(2999, 1, 1);
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @Autowired
+    private MyReservationRepository myReservationRepository;
+
+    private Member member;
+    private Reservation reservation;
+    private ReservationWaiting secondWaiting;
+    private ReservationWaiting firstWaiting;
+    private Theme theme;
+    private Time time;
+
+    @BeforeEach
+    void setUp() {
+        member = new Member("켬미", "aaa@naver.com", "1111");
+        Member otherMember = new Member("도비", "bbb@naver.com", "1111");
+        theme = new Theme("Harry Potter", "해리포터와 도비", "thumbnail.jpg");
+        time = new Time(LocalTime.of(12, 0));
+        ReservationDetail reservedDetail = new ReservationDetail(theme, time, date);
+        ReservationDetail crowdedDetail = new ReservationDetail(theme, time, date.plusDays(1));
+        ReservationDetail emptyDetail = new ReservationDetail(theme, time, date.plusDays(2));
+
+        entityManager.persist(member);
+        entityManager.persist(otherMember);
+        entityManager.persist(theme);
+        entityManager.persist(time);
+        entityManager.persist(reservedDetail);
+        entityManager.persist(crowdedDetail);
+        entityManager.persist(emptyDetail);
+
+        reservation = new Reservation(member, reservedDetail);
+        entityManager.persist(reservation);
+        entityManager.persist(new Reservation(otherMember, crowdedDetail));
+        entityManager.persist(new Reservation(otherMember, emptyDetail));
+        entityManager.persist(new ReservationWaiting(otherMember, reservedDetail, 1L)); // 다른 회원의 예약 대기는 조회되지 않음
+        entityManager.flush();
+        entityManager.persist(new ReservationWaiting(otherMember, crowdedDetail, 1L));
+        entityManager.flush();
+        secondWaiting = new ReservationWaiting(member, crowdedDetail, 2L);
+        entityManager.persist(secondWaiting);
+        entityManager.flush();
+        firstWaiting = new ReservationWaiting(member, emptyDetail, 1L);
+        entityManager.persist(firstWaiting);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("성공 : 회원의 예약과 예약 대기를 대기 순번과 함께 한 번에 조회할 수 있다.")
+    void findAllByMemberId() {
+        // when
+        List<MyReservationResponse> actual = myReservationRepository.findAllByMemberId(member.getId());
+
+        // then
+        assertThat(actual).containsExactly(
+                MyReservationResponse.ofReservation(reservation.getId(), theme.getName(), date, time.getStartAt()),
+                MyReservationResponse.ofWaiting(
+                        secondWaiting.getId(), theme.getName(), date.plusDays(1), time.getStartAt(), 2),
+                MyReservationResponse.ofWaiting(
+                        firstWaiting.getId(), theme.getName(), date.plusDays(2), time.getStartAt(), 1));
+    }
+
+    @Test
+    @DisplayName("성공 : 예약과 예약 대기가 없는 회원은 빈 목록을 조회한다.")
+    void findAllByMemberId_Empty() {
+        assertThat(myReservationRepository.findAllByMemberId(0L)).isEmpty();
+    }
+}
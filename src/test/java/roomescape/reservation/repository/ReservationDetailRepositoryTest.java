@@ -1,6 +1,7 @@
 package roomescape.reservation.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -13,8 +14,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import roomescape.member.domain.Member;
 import roomescape.reservation.domain.ReservationDetail;
+import roomescape.reservation.domain.ReservationWaiting;
 import roomescape.theme.domain.Theme;
 import roomescape.time.domain.Time;
 
@@ -64,4 +68,66 @@ class ReservationDetailRepositoryTest {
         // then
         assertThat(actual).isEqualTo(reservationDetail.getId());
     }
+
+    @Test
+    @DisplayName("성공 : 이미 존재하는 예약 정보는 새로 만들지 않고 ID를 반환한다.")
+    void upsertIdByDateAndThemeIdAndTimeId_Existing() {
+        // when
+        Long actual = detailRepository.upsertIdByDateAndThemeIdAndTimeId(LocalDate.MAX, theme.getId(), time.getId());
+
+        // then
+        assertThat(actual).isEqualTo(reservationDetail.getId());
+        assertThat(detailRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공 : 존재하지 않는 예약 정보는 새로 만들어 ID를 반환한다.")
+    void upsertIdByDateAndThemeIdAndTimeId_New() {
+        // given
+        LocalDate date = LocalDate.MAX.minusDays(1);
+
+        // when
+        Long actual = detailRepository.upsertIdByDateAndThemeIdAndTimeId(date, theme.getId(), time.getId());
+
+        // then
+        assertThat(detailRepository.findIdByDateAndThemeIdAndTimeId(date, theme.getId(), time.getId()))
+                .contains(actual);
+    }
+
+    @Test
+    @DisplayName("성공 : 예약 대기 순번은 예약 정보마다 1부터 차례대로 발급된다.")
+    void nextWaitingSeqById() {
+        // when
+        Long first = detailRepository.nextWaitingSeqById(reservationDetail.getId());
+        Long second = detailRepository.nextWaitingSeqById(reservationDetail.getId());
+
+        // then
+        assertThat(first).isEqualTo(1L);
+        assertThat(second).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("성공 : 이미 저장된 예약 대기가 있으면 그 다음 순번을 발급한다.")
+    void nextWaitingSeqById_ExistingWaiting() {
+        // given
+        Member member = new Member("켬미", "aaa@naver.com", "1111");
+        entityManager.persist(member);
+        entityManager.persist(new ReservationWaiting(
+                member, entityManager.getReference(ReservationDetail.class, reservationDetail.getId()), 5L));
+        entityManager.flush();
+
+        // when
+        Long actual = detailRepository.nextWaitingSeqById(reservationDetail.getId());
+
+        // then
+        assertThat(actual).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("실패 : 존재하지 않는 테마로 예약 정보를 만들 수 없다.")
+    void upsertIdByDateAndThemeIdAndTimeId_NotExistTheme() {
+        assertThatThrownBy(
+                () -> detailRepository.upsertIdByDateAndThemeIdAndTimeId(LocalDate.MAX, 0L, time.getId()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
 }
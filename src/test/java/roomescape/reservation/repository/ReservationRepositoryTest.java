@@ -14,12 +14,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.annotation.DirtiesContext.ClassMode;
 
 import roomescape.member.domain.Member;
 import roomescape.reservation.domain.Reservation;
 import roomescape.reservation.domain.ReservationDetail;
+import roomescape.reservation.dto.ReservationRow;
 import roomescape.theme.domain.Theme;
 import roomescape.time.domain.Time;
 
@@ -67,58 +69,23 @@ class ReservationRepositoryTest {
     }
 
     @Test
-    @DisplayName("성공 : DB에 있는 모든 예약을 모두 얻을 수 있다.")
-    void findAllByOrderByDateAsc() {
-        // Given
-        List<Reservation> expected = reservationRepository.findAll();
-        entityManager.persist(reservation);
-
-        // When
-        List<Reservation> reservations = reservationRepository.findAllByOrderByDetailDateAsc();
-
-        // Then
-        assertThat(reservations).containsExactly(reservation);
-    }
-
-    @Test
-    @DisplayName("성공 : 해당 테마에 해당 날짜인 예약을 모두 얻을 수 있다.")
-    void findAllByDetailTheme_IdAndDetailDate() {
-        // Given
-        entityManager.persist(reservation);
-
-        // When
-        List<Reservation> reservations
-                = reservationRepository.findAllByDetail_Theme_IdAndDetail_Date(theme.getId(), LocalDate.MIN);
-
-        // Then
-        assertThat(reservations).hasSize(0);
-    }
-
-    @Test
-    @DisplayName("성공 : 해당 멤버가 예약한 예약을 모두 얻을 수 있다.")
-    void findAllByMember_Id() {
-        // Given
-        entityManager.persist(reservation);
-
-        // When
-        List<Reservation> reservationIds = reservationRepository.findAllByMember_Id(member.getId());
-
-        // Then
-        assertThat(reservationIds).hasSize(1);
-    }
-
-    @Test
-    @DisplayName("성공 : 해당 멤버가 예약한 예약을 모두 날짜순으로 얻을 수 있다.")
-    void findAllByMember_IdOrderByDetailDateAsc() {
+    @DisplayName("성공 : 예약 목록을 날짜와 시작 시간 순으로 얻을 수 있다.")
+    void findFirstPage() {
         // Given
+        Time earlierTime = new Time(LocalTime.of(10, 0));
+        entityManager.persist(earlierTime);
+        ReservationDetail earlierDetail = new ReservationDetail(theme, earlierTime, LocalDate.MAX);
+        entityManager.persist(earlierDetail);
+        Reservation earlierReservation = new Reservation(member, earlierDetail);
         entityManager.persist(reservation);
+        entityManager.persist(earlierReservation);
 
         // When
-        List<Reservation> reservations
-                = reservationRepository.findAllByMember_IdOrderByDetailDateAsc(member.getId());
+        List<ReservationRow> rows = reservationRepository.findFirstPage(Limit.of(10));
 
         // Then
-        assertThat(reservations).hasSize(1);
+        assertThat(rows).extracting(ReservationRow::id)
+                .containsExactly(earlierReservation.getId(), reservation.getId());
     }
 
     @Test
@@ -0,0 +1,120 @@
+package roomescape.reservation.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import roomescape.member.domain.Member;
+import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.domain.ReservationDetail;
+import roomescape.reservation.dto.ReservationConditionSearchRequest;
+import roomescape.reservation.dto.ReservationCursor;
+import roomescape.reservation.dto.ReservationPageRequest;
+import roomescape.reservation.dto.ReservationRow;
+import roomescape.theme.domain.Theme;
+import roomescape.time.domain.Time;
+
+@DataJpaTest
+@Import(ReservationSearchRepository.class)
+class ReservationSearchRepositoryTest {
+    private final LocalDate date = LocalDate.of(2999, 1, 1);
+    private final ReservationPageRequest firstPage = ReservationPageRequest.of(null, 20);
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @Autowired
+    private ReservationSearchRepository searchRepository;
+
+    private Member member;
+    private Theme theme;
+    private Reservation first;
+    private Reservation second;
+    private Reservation otherTheme;
+    private Reservation otherMember;
+
+    @BeforeEach
+    void setUp() {
+        member = new Member("켬미", "aaa@naver.com", "1111");
+        Member anotherMember = new Member("도비", "bbb@naver.com", "1111");
+        theme = new Theme("Harry Potter", "해리포터와 도비", "thumbnail.jpg");
+        Theme anotherTheme = new Theme("Lord of the Rings", "반지의 제왕", "thumbnail.jpg");
+        Time time = new Time(LocalTime.of(12, 0));
+
+        entityManager.persist(member);
+        entityManager.persist(anotherMember);
+        entityManager.persist(theme);
+        entityManager.persist(anotherTheme);
+        entityManager.persist(time);
+
+        first = persistReservation(member, new ReservationDetail(theme, time, date));
+        second = persistReservation(member, new ReservationDetail(theme, time, date.plusDays(1)));
+        otherTheme = persistReservation(member, new ReservationDetail(anotherTheme, time, date.plusDays(2)));
+        otherMember = persistReservation(anotherMember, new ReservationDetail(theme, time, date.plusDays(3)));
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Reservation persistReservation(Member member, ReservationDetail detail) {
+        entityManager.persist(detail);
+        Reservation reservation = new Reservation(member, detail);
+        entityManager.persist(reservation);
+        return reservation;
+    }
+
+    @Test
+    @DisplayName("성공 : 조건이 없으면 모든 예약을 날짜 순으로 조회한다.")
+    void search_NoCondition() {
+        List<ReservationRow> actual = searchRepository.search(
+                new ReservationConditionSearchRequest(null, null, null, null), firstPage);
+
+        assertThat(actual).extracting(ReservationRow::id)
+                .containsExactly(first.getId(), second.getId(), otherTheme.getId(), otherMember.getId());
+    }
+
+    @Test
+    @DisplayName("성공 : 멤버와 테마 조건으로 예약을 조회할 수 있다.")
+    void search_MemberAndTheme() {
+        List<ReservationRow> actual = searchRepository.search(
+                new ReservationConditionSearchRequest(member.getId(), theme.getId(), null, null), firstPage);
+
+        assertThat(actual).extracting(ReservationRow::id)
+                .containsExactly(first.getId(), second.getId());
+    }
+
+    @Test
+    @DisplayName("성공 : 기간 조건은 시작 날짜와 마지막 날짜를 포함한다.")
+    void search_Period() {
+        List<ReservationRow> actual = searchRepository.search(
+                new ReservationConditionSearchRequest(null, null, date.plusDays(1), date.plusDays(2)), firstPage);
+
+        assertThat(actual).extracting(ReservationRow::id)
+                .containsExactly(second.getId(), otherTheme.getId());
+    }
+
+    @Test
+    @DisplayName("성공 : 커서 이후의 예약만 페이지 크기보다 하나 더 조회한다.")
+    void search_AfterCursor() {
+        ReservationPageRequest pageRequest = new ReservationPageRequest(
+                new ReservationCursor(date, LocalTime.of(12, 0), first.getDetail().getId(), first.getId()), 1);
+
+        List<ReservationRow> actual = searchRepository.search(
+                new ReservationConditionSearchRequest(null, null, null, null), pageRequest);
+
+        assertThat(actual).extracting(ReservationRow::id)
+                .containsExactly(second.getId(), otherTheme.getId());
+    }
+}
@@ -0,0 +1,86 @@
+package roomescape.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+    private static final long TICK_MILLIS = 1_000;
+
+    private final HierarchicalTimingWheel<String> timingWheel = new HierarchicalTimingWheel<>(TICK_MILLIS, 0);
+
+    @Test
+    @DisplayName("성공 : 만료 시각이 되기 전에는 만료되지 않는다.")
+    void advance_BeforeDeadline() {
+        timingWheel.schedule("hold", 10_000);
+
+        assertThat(timingWheel.advance(9_999)).isEmpty();
+        assertThat(timingWheel.advance(10_000)).containsExactly("hold");
+        assertThat(timingWheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공 : 상위 단계에 놓인 항목도 정확한 시각에 만료된다.")
+    void advance_Cascade() {
+        long[] deadlines = {63_000, 64_000, 65_000, 4_095_000, 4_096_000, 300_000_000};
+        for (long deadline : deadlines) {
+            timingWheel.schedule(String.valueOf(deadline), deadline);
+        }
+
+        for (long deadline : deadlines) {
+            assertThat(timingWheel.advance(deadline - TICK_MILLIS)).isEmpty();
+            assertThat(timingWheel.advance(deadline)).containsExactly(String.valueOf(deadline));
+        }
+    }
+
+    @Test
+    @DisplayName("성공 : 많은 항목을 한 번에 만료시킬 수 있다.")
+    void advance_ManyEntries() {
+        IntStream.range(0, 50_000)
+                .forEach(i -> timingWheel.schedule("hold" + i, (i % 300 + 1) * TICK_MILLIS));
+
+        List<String> expired = new ArrayList<>();
+        for (long now = TICK_MILLIS; now <= 300 * TICK_MILLIS; now += TICK_MILLIS) {
+            expired.addAll(timingWheel.advance(now));
+        }
+
+        assertThat(expired).hasSize(50_000);
+        assertThat(timingWheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공 : 취소한 항목은 만료되지 않는다.")
+    void cancel() {
+        HierarchicalTimingWheel.Timeout<String> cancelled = timingWheel.schedule("cancelled", 10_000);
+        timingWheel.schedule("kept", 10_000);
+
+        assertThat(timingWheel.cancel(cancelled)).isTrue();
+        assertThat(timingWheel.cancel(cancelled)).isFalse();
+        assertThat(timingWheel.size()).isEqualTo(1);
+        assertThat(timingWheel.advance(10_000)).containsExactly("kept");
+    }
+
+    @Test
+    @DisplayName("성공 : 이미 만료된 항목은 취소되지 않는다.")
+    void cancel_AfterExpire() {
+        HierarchicalTimingWheel.Timeout<String> timeout = timingWheel.schedule("hold", 1_000);
+        timingWheel.advance(1_000);
+
+        assertThat(timingWheel.cancel(timeout)).isFalse();
+        assertThat(timingWheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공 : 이미 지난 시각으로 등록하면 다음 틱에 만료된다.")
+    void schedule_PastDeadline() {
+        timingWheel.advance(5_000);
+        timingWheel.schedule("late", 1_000);
+
+        assertThat(timingWheel.advance(6_000)).containsExactly("late");
+    }
+}
@@ -0,0 +1,85 @@
+package roomescape.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import roomescape.reservation.dto.ReservationTimeAvailabilityResponse;
+import roomescape.reservation.dto.ReservedSlot;
+import roomescape.reservation.repository.ReservationRepository;
+import roomescape.time.domain.Time;
+import roomescape.time.repository.TimeRepository;
+import roomescape.version.AggregateVersionRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationAvailabilityIndexTest {
+    private final LocalDate date = LocalDate.now().plusDays(1);
+    private final Time morning = new Time(1L, LocalTime.of(10, 0));
+    private final Time evening = new Time(2L, LocalTime.of(20, 0));
+
+    @InjectMocks
+    private ReservationAvailabilityIndex availabilityIndex;
+    @Mock
+    private TimeRepository timeRepository;
+    @Mock
+    private ReservationRepository reservationRepository;
+    @Mock
+    private ReservationSlotChangeHub slotChangeHub;
+    @Mock
+    private AggregateVersionRegistry versionRegistry;
+
+    @BeforeEach
+    void setUp() {
+        when(timeRepository.findAllByOrderByStartAtAsc())
+                .thenReturn(List.of(morning, evening));
+        when(reservationRepository.findAllReservedSlots())
+                .thenReturn(List.of(new ReservedSlot(1L, morning.getId(), date)));
+
+        availabilityIndex.reload();
+    }
+
+    @Test
+    @DisplayName("성공 : DB에서 불러온 예약 정보로 예약 가능 시간을 알 수 있다.")
+    void findTimeAvailability() {
+        List<ReservationTimeAvailabilityResponse> actual = availabilityIndex.findTimeAvailability(1L, date);
+
+        assertThat(actual).containsExactly(
+                ReservationTimeAvailabilityResponse.from(morning, true),
+                ReservationTimeAvailabilityResponse.from(evening, false));
+    }
+
+    @Test
+    @DisplayName("성공 : 예약과 예약 취소가 예약 가능 시간에 반영된다.")
+    void bookAndRelease() {
+        availabilityIndex.book(new ReservedSlot(1L, evening.getId(), date));
+        availabilityIndex.release(new ReservedSlot(1L, morning.getId(), date));
+
+        assertThat(availabilityIndex.findTimeAvailability(1L, date)).containsExactly(
+                ReservationTimeAvailabilityResponse.from(morning, false),
+                ReservationTimeAvailabilityResponse.from(evening, true));
+        verify(slotChangeHub).publish(1L, date, evening.getId(), true);
+        verify(slotChangeHub).publish(1L, date, morning.getId(), false);
+    }
+
+    @Test
+    @DisplayName("성공 : 추가된 시간은 시작 시간 순서로 예약 가능 시간에 포함된다.")
+    void addTime() {
+        availabilityIndex.addTime(3L, LocalTime.of(15, 0));
+
+        assertThat(availabilityIndex.findTimeAvailability(2L, date))
+                .extracting(ReservationTimeAvailabilityResponse::timeId)
+                .containsExactly(1L, 3L, 2L);
+    }
+}
@@ -0,0 +1,130 @@
+package roomescape.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+import roomescape.exception.ConflictException;
+import roomescape.member.domain.Member;
+import roomescape.member.repository.MemberRepository;
+import roomescape.reservation.dto.ReservationCreateRequest;
+import roomescape.reservation.repository.ReservationDetailRepository;
+import roomescape.reservation.repository.ReservationRepository;
+import roomescape.theme.domain.Theme;
+import roomescape.theme.repository.ThemeRepository;
+import roomescape.time.domain.Time;
+import roomescape.time.repository.TimeRepository;
+
+@SpringBootTest
+@Sql(scripts = "/truncate.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class ReservationBookingCoordinatorTest {
+    private static final int CONTENDER_COUNT = 32;
+
+    @Autowired
+    private ReservationFacadeService reservationFacadeService;
+    @Autowired
+    private ReservationAvailabilityIndex availabilityIndex;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private ReservationDetailRepository detailRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private ThemeRepository themeRepository;
+    @Autowired
+    private TimeRepository timeRepository;
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(CONTENDER_COUNT);
+    private final LocalDate date = LocalDate.now().plusDays(1);
+    private final List<Member> members = new ArrayList<>();
+    private Theme theme;
+    private List<Time> times;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < CONTENDER_COUNT; i++) {
+            members.add(memberRepository.save(new Member("member" + i, "member" + i + "@email.com", "1111")));
+        }
+        theme = themeRepository.save(new Theme("Harry Potter", "해리포터와 도비", "thumbnail.jpg"));
+        times = List.of(
+                timeRepository.save(new Time(LocalTime.of(10, 0))),
+                timeRepository.save(new Time(LocalTime.of(12, 0))));
+        availabilityIndex.reload();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("성공 : 같은 슬롯에 동시에 예약하면 한 건만 성공하고 나머지는 충돌로 거절된다.")
+    void createReservation_SameSlot() throws Exception {
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger conflicted = new AtomicInteger();
+        List<Callable<Void>> bookings = new ArrayList<>();
+        for (Member member : members) {
+            bookings.add(() -> {
+                try {
+                    reservationFacadeService.createReservation(
+                            new ReservationCreateRequest(member.getId(), theme.getId(), times.get(0).getId(), date));
+                    succeeded.incrementAndGet();
+                } catch (ConflictException e) {
+                    conflicted.incrementAndGet();
+                }
+                return null;
+            });
+        }
+
+        awaitAll(executorService.invokeAll(bookings));
+
+        assertThat(succeeded.get()).isEqualTo(1);
+        assertThat(conflicted.get()).isEqualTo(CONTENDER_COUNT - 1);
+        assertThat(reservationRepository.count()).isEqualTo(1);
+        assertThat(detailRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공 : 서로 다른 슬롯에 대한 동시 예약은 서로를 막지 않는다.")
+    void createReservation_DifferentSlots() throws Exception {
+        List<Callable<Void>> bookings = new ArrayList<>();
+        for (int i = 0; i < members.size(); i++) {
+            Member member = members.get(i);
+            Time time = times.get(i % times.size());
+            LocalDate reservationDate = date.plusDays(i / times.size());
+            bookings.add(() -> {
+                reservationFacadeService.createReservation(
+                        new ReservationCreateRequest(member.getId(), theme.getId(), time.getId(), reservationDate));
+                return null;
+            });
+        }
+
+        awaitAll(executorService.invokeAll(bookings));
+
+        assertThat(reservationRepository.count()).isEqualTo(CONTENDER_COUNT);
+    }
+
+    private void awaitAll(List<Future<Void>> futures) throws InterruptedException, ExecutionException {
+        for (Future<Void> future : futures) {
+            future.get();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package roomescape.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import roomescape.exception.BadRequestException;
+import roomescape.reservation.dto.ReservationCreateRequest;
+import roomescape.reservation.repository.ReservationDetailRepository;
+import roomescape.theme.repository.ThemeRepository;
+import roomescape.time.repository.TimeRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationDetailServiceTest {
+    private final LocalDate date = LocalDate.MAX.minusDays(1);
+    private final ReservationCreateRequest request = new ReservationCreateRequest(1L, 1L, 1L, date);
+
+    @InjectMocks
+    private ReservationDetailService detailService;
+    @Mock
+    private ReservationDetailRepository detailRepository;
+    @Mock
+    private ThemeRepository themeRepository;
+    @Mock
+    private TimeRepository timeRepository;
+
+    @Test
+    @DisplayName("실패 : 존재하지 않는 테마로 예약 정보를 만들 수 없다.")
+    void findReservationDetailId_NotExistTheme() {
+        when(detailRepository.upsertIdByDateAndThemeIdAndTimeId(date, 1L, 1L))
+                .thenThrow(new DataIntegrityViolationException("fk"));
+        when(themeRepository.existsById(1L)).thenReturn(false);
+
+        assertThatThrownBy(() -> detailService.findReservationDetailId(request))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("실패 : 테마와 시간이 존재하면 다른 무결성 위반은 그대로 전달한다.")
+    void findReservationDetailId_OtherViolation() {
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("unique");
+        when(detailRepository.upsertIdByDateAndThemeIdAndTimeId(date, 1L, 1L)).thenThrow(violation);
+        when(themeRepository.existsById(1L)).thenReturn(true);
+        when(timeRepository.existsById(1L)).thenReturn(true);
+
+        assertThatThrownBy(() -> detailService.findReservationDetailId(request))
+                .isSameAs(violation);
+    }
+}
@@ -0,0 +1,126 @@
+package roomescape.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import roomescape.exception.BadRequestException;
+import roomescape.reservation.dto.ReservationHoldResponse;
+import roomescape.reservation.dto.ReservedSlot;
+import roomescape.theme.repository.ThemeRepository;
+import roomescape.time.repository.TimeRepository;
+import roomescape.version.AggregateVersionRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationHoldRegistryTest {
+    private final LocalDate date = LocalDate.now().plusDays(1);
+
+    @Mock
+    private ReservationAvailabilityIndex availabilityIndex;
+    @Mock
+    private ReservationSlotChangeHub slotChangeHub;
+    @Mock
+    private ThemeRepository themeRepository;
+    @Mock
+    private TimeRepository timeRepository;
+
+    private ReservationHoldRegistry holdRegistry;
+
+    @BeforeEach
+    void setUp() {
+        holdRegistry = new ReservationHoldRegistry(availabilityIndex, slotChangeHub, new AggregateVersionRegistry(),
+                themeRepository, timeRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        holdRegistry.shutdown();
+    }
+
+    @Test
+    @DisplayName("실패 : 한 사용자는 정해진 개수보다 많은 시간을 선점할 수 없다.")
+    void hold_ExceedMemberLimit() {
+        when(themeRepository.existsById(anyLong())).thenReturn(true);
+        when(timeRepository.existsById(anyLong())).thenReturn(true);
+        for (long timeId = 1; timeId <= 3; timeId++) {
+            holdRegistry.hold(1L, new ReservedSlot(1L, timeId, date));
+        }
+
+        assertThatThrownBy(() -> holdRegistry.hold(1L, new ReservedSlot(1L, 4L, date)))
+                .isInstanceOf(BadRequestException.class);
+        assertThat(holdRegistry.isHeld(1L, 4L, date)).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공 : 선점을 해제하면 다른 시간을 다시 선점할 수 있다.")
+    void hold_AfterRelease() {
+        when(themeRepository.existsById(anyLong())).thenReturn(true);
+        when(timeRepository.existsById(anyLong())).thenReturn(true);
+        for (long timeId = 1; timeId <= 3; timeId++) {
+            holdRegistry.hold(1L, new ReservedSlot(1L, timeId, date));
+        }
+
+        holdRegistry.release(1L, new ReservedSlot(1L, 1L, date));
+        holdRegistry.hold(1L, new ReservedSlot(1L, 4L, date));
+
+        assertThat(holdRegistry.isHeld(1L, 4L, date)).isTrue();
+    }
+
+    @Test
+    @DisplayName("성공 : 한 사용자가 선점과 해제를 반복해도 다른 사용자는 선점할 수 있다.")
+    void hold_ReleaseLoopDoesNotBlockOthers() {
+        when(themeRepository.existsById(anyLong())).thenReturn(true);
+        when(timeRepository.existsById(anyLong())).thenReturn(true);
+        ReservedSlot slot = new ReservedSlot(1L, 1L, date);
+        for (int i = 0; i < 20_000; i++) {
+            holdRegistry.hold(1L, slot);
+            holdRegistry.release(1L, slot);
+        }
+
+        holdRegistry.hold(2L, new ReservedSlot(1L, 2L, date));
+
+        assertThat(holdRegistry.isHeld(1L, 2L, date)).isTrue();
+        assertThat(holdRegistry.scheduledCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공 : 같은 시간을 곧바로 다시 선점하면 만료 시각을 늘리지 않고 기존 선점을 돌려준다.")
+    void hold_RenewTooSoon() {
+        when(themeRepository.existsById(anyLong())).thenReturn(true);
+        when(timeRepository.existsById(anyLong())).thenReturn(true);
+        ReservedSlot slot = new ReservedSlot(1L, 1L, date);
+
+        ReservationHoldResponse first = holdRegistry.hold(1L, slot);
+        ReservationHoldResponse second = holdRegistry.hold(1L, slot);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(holdRegistry.scheduledCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패 : 지난 날짜는 선점할 수 없다.")
+    void hold_PastDate() {
+        assertThatThrownBy(() -> holdRegistry.hold(1L, new ReservedSlot(1L, 1L, LocalDate.now().minusDays(1))))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("실패 : 존재하지 않는 테마의 시간은 선점할 수 없다.")
+    void hold_NotExistTheme() {
+        when(themeRepository.existsById(1L)).thenReturn(false);
+
+        assertThatThrownBy(() -> holdRegistry.hold(1L, new ReservedSlot(1L, 1L, date)))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
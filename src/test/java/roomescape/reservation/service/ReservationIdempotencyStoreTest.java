@@ -0,0 +1,156 @@
+package roomescape.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import roomescape.exception.BadRequestException;
+import roomescape.exception.ConflictException;
+import roomescape.reservation.dto.ReservationCreateRequest;
+import roomescape.reservation.dto.ReservationDetailResponse;
+import roomescape.reservation.dto.ReservationResponse;
+import roomescape.reservation.service.ReservationIdempotencyStore.Operation;
+import roomescape.theme.dto.ThemeResponse;
+import roomescape.time.dto.TimeResponse;
+
+class ReservationIdempotencyStoreTest {
+    private final ReservationIdempotencyStore idempotencyStore = new ReservationIdempotencyStore();
+    private final ReservationCreateRequest request = new ReservationCreateRequest(1L, 1L, 1L, LocalDate.MAX);
+    private final ReservationResponse response = new ReservationResponse(1L, "켬미", new ReservationDetailResponse(
+            1L, LocalDate.MAX, new TimeResponse(1L, LocalTime.of(12, 0)),
+            new ThemeResponse(1L, "그켬미", "켬미 방탈출", "thumbnail")));
+
+    @Test
+    @DisplayName("성공 : 같은 키로 다시 요청하면 저장된 응답을 돌려준다.")
+    void execute_Replay() {
+        AtomicInteger calls = new AtomicInteger();
+
+        idempotencyStore.execute(Operation.RESERVATION, "key", request, () -> {
+            calls.incrementAndGet();
+            return response;
+        });
+        ReservationResponse actual = idempotencyStore.execute(Operation.RESERVATION, "key", request, () -> {
+            calls.incrementAndGet();
+            return response;
+        });
+
+        assertThat(actual).isEqualTo(response);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공 : 키가 없으면 매번 요청을 처리한다.")
+    void execute_WithoutKey() {
+        AtomicInteger calls = new AtomicInteger();
+
+        idempotencyStore.execute(Operation.RESERVATION, null, request, () -> {
+            calls.incrementAndGet();
+            return response;
+        });
+        idempotencyStore.execute(Operation.RESERVATION, null, request, () -> {
+            calls.incrementAndGet();
+            return response;
+        });
+
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("실패 : 같은 키로 다른 요청을 보내면 예외가 발생한다.")
+    void execute_DifferentRequest() {
+        idempotencyStore.execute(Operation.RESERVATION, "key", request, () -> response);
+        ReservationCreateRequest otherRequest = new ReservationCreateRequest(1L, 2L, 1L, LocalDate.MAX);
+
+        assertThatThrownBy(() -> idempotencyStore.execute(Operation.RESERVATION, "key", otherRequest, () -> response))
+                .isInstanceOf(ConflictException.class)
+                .hasMessage("같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("성공 : 실패한 요청은 저장하지 않아 다시 시도할 수 있다.")
+    void execute_Failure() {
+        assertThatThrownBy(() -> idempotencyStore.execute(Operation.RESERVATION, "key", request, () -> {
+            throw new BadRequestException("실패");
+        })).isInstanceOf(BadRequestException.class);
+
+        assertThat(idempotencyStore.execute(Operation.RESERVATION, "key", request, () -> response))
+                .isEqualTo(response);
+    }
+
+    @Test
+    @DisplayName("성공 : Error로 실패한 요청도 저장하지 않아 다시 시도할 수 있다.")
+    void execute_Error() {
+        assertThatThrownBy(() -> idempotencyStore.execute(Operation.RESERVATION, "key", request, () -> {
+            throw new StackOverflowError();
+        })).isInstanceOf(StackOverflowError.class);
+
+        assertThat(idempotencyStore.execute(Operation.RESERVATION, "key", request, () -> response))
+                .isEqualTo(response);
+    }
+
+    @Test
+    @DisplayName("성공 : 처리 중인 요청이 Error로 끝나도 같은 요청은 기다리다 멈추지 않는다.")
+    void execute_InFlightError() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<ReservationResponse> first = CompletableFuture.supplyAsync(
+                () -> idempotencyStore.execute(Operation.WAITING, "key", request, () -> {
+                    started.countDown();
+                    await(release);
+                    throw new StackOverflowError();
+                }));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<ReservationResponse> second = CompletableFuture.supplyAsync(
+                () -> idempotencyStore.execute(Operation.WAITING, "key", request, () -> response));
+        release.countDown();
+
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(StackOverflowError.class);
+        assertThat(second.handle((result, exception) -> true).get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("성공 : 처리 중인 요청과 같은 요청은 처리 결과를 기다려 함께 받는다.")
+    void execute_InFlight() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<ReservationResponse> first = CompletableFuture.supplyAsync(
+                () -> idempotencyStore.execute(Operation.WAITING, "key", request, () -> {
+                    calls.incrementAndGet();
+                    started.countDown();
+                    await(release);
+                    return response;
+                }));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<ReservationResponse> second = CompletableFuture.supplyAsync(
+                () -> idempotencyStore.execute(Operation.WAITING, "key", request, () -> {
+                    calls.incrementAndGet();
+                    return response;
+                }));
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(response);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(response);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
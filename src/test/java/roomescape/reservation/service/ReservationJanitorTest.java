@@ -0,0 +1,81 @@
+package roomescape.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+import roomescape.member.domain.Member;
+import roomescape.member.repository.MemberRepository;
+import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.domain.ReservationDetail;
+import roomescape.reservation.domain.ReservationWaiting;
+import roomescape.reservation.dto.ReservationCleanupReport;
+import roomescape.reservation.repository.ReservationDetailRepository;
+import roomescape.reservation.repository.ReservationRepository;
+import roomescape.reservation.repository.ReservationWaitingRepository;
+import roomescape.theme.domain.Theme;
+import roomescape.theme.repository.ThemeRepository;
+import roomescape.time.domain.Time;
+import roomescape.time.repository.TimeRepository;
+
+@SpringBootTest
+@Sql(scripts = "/truncate.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class ReservationJanitorTest {
+    @Autowired
+    private ReservationJanitor janitor;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private ReservationWaitingRepository waitingRepository;
+    @Autowired
+    private ReservationDetailRepository detailRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private ThemeRepository themeRepository;
+    @Autowired
+    private TimeRepository timeRepository;
+
+    @Test
+    @DisplayName("성공 : 지난 날짜의 예약 대기와 사용하지 않는 지난 예약 정보를 삭제한다.")
+    void run() {
+        // given
+        Member member = memberRepository.save(new Member("켬미", "aaa@naver.com", "1111"));
+        Member otherMember = memberRepository.save(new Member("도비", "bbb@naver.com", "1111"));
+        Theme theme = themeRepository.save(new Theme("Harry Potter", "해리포터와 도비", "thumbnail.jpg"));
+        Time time = timeRepository.save(new Time(LocalTime.of(12, 0)));
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+
+        ReservationDetail pastReserved = detailRepository.save(new ReservationDetail(theme, time, yesterday));
+        ReservationDetail pastOrphaned = detailRepository.save(
+                new ReservationDetail(theme, time, yesterday.minusDays(1)));
+        ReservationDetail futureReserved = detailRepository.save(new ReservationDetail(theme, time, tomorrow));
+        ReservationDetail futureOrphaned = detailRepository.save(
+                new ReservationDetail(theme, time, tomorrow.plusDays(1)));
+
+        reservationRepository.save(new Reservation(member, pastReserved));
+        reservationRepository.save(new Reservation(member, futureReserved));
+        ReservationWaiting expired = waitingRepository.save(new ReservationWaiting(otherMember, pastReserved, 1L));
+        ReservationWaiting upcoming = waitingRepository.save(new ReservationWaiting(otherMember, futureReserved, 1L));
+
+        // when
+        ReservationCleanupReport report = janitor.run();
+
+        // then
+        assertThat(report.expiredWaitings()).isEqualTo(1);
+        assertThat(report.orphanedDetails()).isEqualTo(1);
+        assertThat(waitingRepository.findById(expired.getId())).isEmpty();
+        assertThat(waitingRepository.findById(upcoming.getId())).isPresent();
+        assertThat(detailRepository.findById(pastOrphaned.getId())).isEmpty();
+        assertThat(detailRepository.findById(futureOrphaned.getId())).isPresent();
+        assertThat(reservationRepository.count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,138 @@
+package roomescape.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.function.Supplier;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+import roomescape.member.domain.Member;
+import roomescape.member.repository.MemberRepository;
+import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.domain.ReservationDetail;
+import roomescape.reservation.domain.ReservationWaiting;
+import roomescape.reservation.dto.ReservationConditionSearchRequest;
+import roomescape.reservation.dto.ReservationPageRequest;
+import roomescape.reservation.dto.ReservationPageResponse;
+import roomescape.reservation.repository.ReservationDetailRepository;
+import roomescape.reservation.repository.ReservationRepository;
+import roomescape.reservation.repository.ReservationWaitingRepository;
+import roomescape.theme.domain.Theme;
+import roomescape.theme.repository.ThemeRepository;
+import roomescape.time.domain.Time;
+import roomescape.time.repository.TimeRepository;
+
+@SpringBootTest
+@Sql(scripts = "/truncate.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class ReservationReadStatementTest {
+    private static final int SMALL_COUNT = 1;
+    private static final int LARGE_COUNT = 5;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private ReservationService reservationService;
+    @Autowired
+    private ReservationWaitingService waitingService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private ThemeRepository themeRepository;
+    @Autowired
+    private TimeRepository timeRepository;
+    @Autowired
+    private ReservationDetailRepository detailRepository;
+    @Autowired
+    private ReservationRepository reservationRepository;
+    @Autowired
+    private ReservationWaitingRepository waitingRepository;
+
+    private Statistics statistics;
+    private Member owner;
+    private int seeded;
+
+    @BeforeEach
+    void setUp() {
+        owner = memberRepository.save(new Member("범블비", "owner@email.com", "1111"));
+        seeded = 0;
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @DisplayName("성공 : 예약 목록 조회는 예약 개수와 관계없이 쿼리 한 번으로 끝난다.")
+    void findReservations() {
+        Supplier<ReservationPageResponse> read = () -> reservationService.findReservations(
+                ReservationPageRequest.of(null, ReservationPageRequest.DEFAULT_SIZE));
+
+        assertSameStatementCount(read, 1);
+    }
+
+    @Test
+    @DisplayName("성공 : 예약 대기 목록 조회는 예약 대기 개수와 관계없이 쿼리 두 번으로 끝난다.")
+    void findReservationWaitings() {
+        Supplier<ReservationPageResponse> read = () -> waitingService.findReservationWaitings(
+                ReservationPageRequest.of(null, ReservationPageRequest.DEFAULT_SIZE));
+
+        assertSameStatementCount(read, 2);
+    }
+
+    @Test
+    @DisplayName("성공 : 조건 검색은 예약 개수와 관계없이 쿼리 한 번으로 끝난다.")
+    void findReservationsByConditions() {
+        Supplier<ReservationPageResponse> read = () -> reservationService.findReservationsByConditions(
+                new ReservationConditionSearchRequest(owner.getId(), null, LocalDate.now(), null),
+                ReservationPageRequest.of(null, ReservationPageRequest.DEFAULT_SIZE));
+
+        assertSameStatementCount(read, 1);
+    }
+
+    private void assertSameStatementCount(Supplier<ReservationPageResponse> read, long expected) {
+        long smallCount = countStatements(SMALL_COUNT, read);
+        long largeCount = countStatements(LARGE_COUNT, read);
+
+        assertThat(smallCount).isEqualTo(expected);
+        assertThat(largeCount).isEqualTo(smallCount);
+    }
+
+    private long countStatements(int count, Supplier<ReservationPageResponse> read) {
+        seedUpTo(count);
+        statistics.clear();
+
+        ReservationPageResponse response = read.get();
+
+        assertThat(response.content()).hasSize(count);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void seedUpTo(int count) {
+        for (; seeded < count; seeded++) {
+            Member waiter = memberRepository.save(
+                    new Member("켬미" + seeded, "waiter" + seeded + "@email.com", "1111"));
+            Theme theme = themeRepository.save(new Theme("테마" + seeded, "설명" + seeded, "thumbnail.jpg"));
+            Time time = timeRepository.save(new Time(LocalTime.of(10 + seeded, 0)));
+            ReservationDetail detail = detailRepository.save(
+                    new ReservationDetail(theme, time, LocalDate.now().plusDays(seeded + 1)));
+
+            reservationRepository.save(new Reservation(owner, detail));
+            waitingRepository.save(new ReservationWaiting(waiter, detail, 1L));
+        }
+    }
+}
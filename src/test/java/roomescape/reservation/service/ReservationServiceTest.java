@@ -17,22 +17,30 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import roomescape.exception.BadRequestException;
+import roomescape.exception.ConflictException;
 import roomescape.member.domain.Member;
 import roomescape.member.repository.MemberRepository;
 import roomescape.reservation.domain.Reservation;
 import roomescape.reservation.domain.ReservationDetail;
 import roomescape.reservation.dto.MyReservationResponse;
 import roomescape.reservation.dto.ReservationConditionSearchRequest;
+import roomescape.reservation.dto.ReservationPageRequest;
+import roomescape.reservation.dto.ReservationPageResponse;
 import roomescape.reservation.dto.ReservationRequest;
 import roomescape.reservation.dto.ReservationResponse;
+import roomescape.reservation.dto.ReservationRow;
+import roomescape.reservation.dto.ReservationTarget;
 import roomescape.reservation.dto.ReservationTimeAvailabilityResponse;
+import roomescape.reservation.repository.MyReservationRepository;
 import roomescape.reservation.repository.ReservationDetailRepository;
 import roomescape.reservation.repository.ReservationRepository;
+import roomescape.reservation.repository.ReservationSearchRepository;
 import roomescape.theme.domain.Theme;
 import roomescape.time.domain.Time;
-import roomescape.time.repository.TimeRepository;
 
 @ExtendWith(MockitoExtension.class)
 class ReservationServiceTest {
@@ -41,6 +49,12 @@ class ReservationServiceTest {
     private final Member member = new Member(1L, "켬미", "kyummi@email.com", "pass");
     private final ReservationDetail detail = new ReservationDetail(1L, theme, time, LocalDate.MAX.minusDays(1));
     private final Reservation reservation = new Reservation(1L, member, detail);
+    private final ReservationTarget target = new ReservationTarget(
+            member.getName(), detail.getId(), detail.getDate(), time.getId(), time.getStartAt(),
+            theme.getId(), theme.getName(), theme.getDescription(), theme.getThumbnail());
+    private final ReservationRow row = new ReservationRow(
+            reservation.getId(), member.getName(), detail.getId(), detail.getDate(), time.getId(), time.getStartAt(),
+            theme.getId(), theme.getName(), theme.getDescription(), theme.getThumbnail());
 
     @InjectMocks
     private ReservationService reservationService;
@@ -51,21 +65,29 @@ class ReservationServiceTest {
     @Mock
     private MemberRepository memberRepository;
     @Mock
-    private TimeRepository timeRepository;
+    private ReservationAvailabilityIndex availabilityIndex;
+    @Mock
+    private ReservationHoldRegistry holdRegistry;
+    @Mock
+    private MyReservationRepository myReservationRepository;
+    @Mock
+    private ReservationSearchRepository searchRepository;
 
     @Test
     @DisplayName("성공 : 예약 정보를 얻을 수 있다.")
     void findReservations() {
         // Given
         ReservationResponse expected = ReservationResponse.from(reservation);
-        when(reservationRepository.findAllByOrderByDetailDateAsc())
-                .thenReturn(List.of(reservation));
+        when(reservationRepository.findFirstPage(any(Limit.class)))
+                .thenReturn(List.of(row));
 
         // When
-        List<ReservationResponse> reservationResponses = reservationService.findReservations();
+        ReservationPageResponse pageResponse
+                = reservationService.findReservations(ReservationPageRequest.of(null, 20));
 
         // Then
-        assertThat(reservationResponses).containsExactly(expected);
+        assertThat(pageResponse.content()).containsExactly(expected);
+        assertThat(pageResponse.nextCursor()).isNull();
     }
 
     @Test
@@ -75,27 +97,30 @@ class ReservationServiceTest {
         ReservationConditionSearchRequest request = new ReservationConditionSearchRequest(
                 member.getId(), theme.getId(), LocalDate.MIN, LocalDate.MAX);
         ReservationResponse expected = ReservationResponse.from(reservation);
-        when(reservationRepository.findAllByMember_Id(any(Long.class)))
-                .thenReturn(List.of(reservation));
+        ReservationPageRequest pageRequest = ReservationPageRequest.of(null, 20);
+        when(searchRepository.search(request, pageRequest))
+                .thenReturn(List.of(row));
 
         // When
-        List<ReservationResponse> reservationResponses = reservationService.findReservationsByConditions(request);
+        ReservationPageResponse pageResponse = reservationService.findReservationsByConditions(request, pageRequest);
 
         // Then
-        assertThat(reservationResponses).containsExactly(expected);
+        assertThat(pageResponse.content()).containsExactly(expected);
+        assertThat(pageResponse.nextCursor()).isNull();
     }
 
     @Test
     @DisplayName("성공 : 예약 정보를 얻을 수 있다.")
-    void findReservationByMemberId() {
+    void findMyReservations() {
         // Given
-        MyReservationResponse expected = MyReservationResponse.from(reservation);
-        when(reservationRepository.findAllByMember_IdOrderByDetailDateAsc(any(Long.class)))
-                .thenReturn(List.of(reservation));
+        MyReservationResponse expected = MyReservationResponse.ofReservation(
+                reservation.getId(), theme.getName(), reservation.getDate(), time.getStartAt());
+        when(myReservationRepository.findAllByMemberId(any(Long.class)))
+                .thenReturn(List.of(expected));
 
         // When
         List<MyReservationResponse> reservationResponses
-                = reservationService.findReservationByMemberId(reservation.getId());
+                = reservationService.findMyReservations(reservation.getMemberId());
 
         // Then
         assertThat(reservationResponses).containsExactly(expected);
@@ -131,26 +156,48 @@ class ReservationServiceTest {
     void findTimeAvailability() {
         // Given
         ReservationTimeAvailabilityResponse expected = ReservationTimeAvailabilityResponse.from(time, true);
-        when(timeRepository.findAllByOrderByStartAtAsc())
-                .thenReturn(List.of(time));
-        when(reservationRepository.findAllByDetail_Theme_IdAndDetail_Date(any(Long.class), any(LocalDate.class)))
-                .thenReturn(List.of(reservation));
+        when(availabilityIndex.findTimeAvailability(any(Long.class), any(LocalDate.class)))
+                .thenReturn(List.of(expected));
 
         // Then
         assertThat(reservationService.findTimeAvailability(theme.getId(), detail.getDate()))
                 .containsExactly(expected);
     }
 
+    @Test
+    @DisplayName("성공 : 다른 사용자가 잡아 둔 시간은 예약할 수 없는 시간으로 보인다.")
+    void findTimeAvailability_Held() {
+        // Given
+        when(availabilityIndex.findTimeAvailability(any(Long.class), any(LocalDate.class)))
+                .thenReturn(List.of(ReservationTimeAvailabilityResponse.from(time, false)));
+        when(holdRegistry.isHeld(theme.getId(), time.getId(), detail.getDate()))
+                .thenReturn(true);
+
+        // Then
+        assertThat(reservationService.findTimeAvailability(theme.getId(), detail.getDate()))
+                .containsExactly(ReservationTimeAvailabilityResponse.from(time, true));
+    }
+
+    @Test
+    @DisplayName("실패 : 조회 시작 날짜가 마지막 날짜보다 늦으면 예외가 발생한다.")
+    void findDateAvailability_Exception() {
+        LocalDate today = LocalDate.now();
+
+        assertThatThrownBy(() -> reservationService.findDateAvailability(theme.getId(), today, today.minusDays(1)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("조회 시작 날짜가 마지막 날짜보다 늦습니다.");
+    }
+
     @Test
     @DisplayName("예약을 추가한다.")
     void addReservation() {
         // given
-        when(memberRepository.findById(any(Long.class)))
-                .thenReturn(Optional.ofNullable(reservation.getMember()));
-        when(detailRepository.findById(any(Long.class)))
-                .thenReturn(Optional.ofNullable(reservation.getDetail()));
-        when(reservationRepository.findByDetail_Id(any(Long.class)))
-                .thenReturn(Optional.empty());
+        when(detailRepository.findReservationTarget(any(Long.class), any(Long.class)))
+                .thenReturn(Optional.of(target));
+        when(memberRepository.getReferenceById(any(Long.class)))
+                .thenReturn(member);
+        when(detailRepository.getReferenceById(any(Long.class)))
+                .thenReturn(detail);
         when(reservationRepository.save(any(Reservation.class)))
                 .thenReturn(reservation);
 
@@ -161,6 +208,27 @@ class ReservationServiceTest {
         ReservationResponse reservationResponse = reservationService.addReservation(reservationRequest);
 
         // then
-        assertThat(reservationResponse.id()).isEqualTo(reservation.getId());
+        assertThat(reservationResponse).isEqualTo(ReservationResponse.from(reservation));
+    }
+
+    @Test
+    @DisplayName("실패 : 이미 예약된 예약 정보에 예약하면 예외가 발생한다.")
+    void addReservation_Conflict() {
+        // given
+        when(detailRepository.findReservationTarget(any(Long.class), any(Long.class)))
+                .thenReturn(Optional.of(target));
+        when(memberRepository.getReferenceById(any(Long.class)))
+                .thenReturn(member);
+        when(detailRepository.getReferenceById(any(Long.class)))
+                .thenReturn(detail);
+        when(reservationRepository.save(any(Reservation.class)))
+                .thenThrow(DataIntegrityViolationException.class);
+
+        // then
+        ReservationRequest reservationRequest = new ReservationRequest(member.getId(), detail.getId());
+        assertThatThrownBy(() -> reservationService.addReservation(reservationRequest))
+                .isInstanceOf(ConflictException.class)
+                .hasMessage("해당 테마(%s)의 해당 시간(%s)에는 이미 예약이 존재합니다."
+                        .formatted(theme.getName(), time.getStartAt()));
     }
 }
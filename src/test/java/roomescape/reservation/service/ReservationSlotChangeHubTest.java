@@ -0,0 +1,94 @@
+package roomescape.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class ReservationSlotChangeHubTest {
+    private static final long THEME_ID = 1L;
+    private static final LocalDate DATE = LocalDate.now().plusDays(1);
+
+    private final ReservationSlotChangeHub hub = new ReservationSlotChangeHub();
+    private final CountDownLatch unblock = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        unblock.countDown();
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("성공 : 전송이 멈춘 구독자가 있어도 다른 구독자는 변경 사항을 받는다.")
+    void publish_StalledSubscriber() throws InterruptedException {
+        hub.subscribe(new StalledEmitter(), THEME_ID, DATE, List::of);
+        hub.subscribe(new StalledEmitter(), THEME_ID, DATE, List::of);
+        RecordingEmitter healthy = new RecordingEmitter(3);
+        hub.subscribe(healthy, THEME_ID, DATE, List::of);
+
+        hub.publish(THEME_ID, DATE, 1L, true);
+        hub.publish(THEME_ID, DATE, 2L, true);
+        hub.publish(THEME_ID, DATE, 3L, false);
+
+        assertThat(healthy.received.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("성공 : 정해진 시간 안에 전송하지 못한 구독자는 구독이 종료된다.")
+    void publish_StalledSubscriberDropped() throws InterruptedException {
+        StalledEmitter stalled = new StalledEmitter();
+        hub.subscribe(stalled, THEME_ID, DATE, List::of);
+
+        hub.publish(THEME_ID, DATE, 1L, true);
+        Thread.sleep(3_000);
+        hub.publish(THEME_ID, DATE, 2L, true);
+        Thread.sleep(500);
+
+        assertThat(stalled.attempts.get()).isEqualTo(1);
+    }
+
+    private final class StalledEmitter extends SseEmitter {
+        private final AtomicInteger attempts = new AtomicInteger();
+        private boolean snapshotSent;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            if (!snapshotSent) {
+                snapshotSent = true;
+                return;
+            }
+            attempts.incrementAndGet();
+            try {
+                unblock.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final CountDownLatch received;
+        private boolean snapshotSent;
+
+        private RecordingEmitter(int expected) {
+            this.received = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            if (!snapshotSent) {
+                snapshotSent = true;
+                return;
+            }
+            received.countDown();
+        }
+    }
+}
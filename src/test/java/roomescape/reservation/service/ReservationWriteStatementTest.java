@@ -0,0 +1,93 @@
+package roomescape.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+import roomescape.member.domain.Member;
+import roomescape.member.repository.MemberRepository;
+import roomescape.reservation.domain.ReservationDetail;
+import roomescape.reservation.dto.ReservationRequest;
+import roomescape.reservation.dto.ReservationResponse;
+import roomescape.reservation.repository.ReservationDetailRepository;
+import roomescape.theme.domain.Theme;
+import roomescape.theme.repository.ThemeRepository;
+import roomescape.time.domain.Time;
+import roomescape.time.repository.TimeRepository;
+
+@SpringBootTest
+@Sql(scripts = "/truncate.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class ReservationWriteStatementTest {
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private ReservationService reservationService;
+    @Autowired
+    private ReservationWaitingService waitingService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private ThemeRepository themeRepository;
+    @Autowired
+    private TimeRepository timeRepository;
+    @Autowired
+    private ReservationDetailRepository detailRepository;
+
+    private Statistics statistics;
+    private Member member;
+    private ReservationDetail detail;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(new Member("범블비", "aa@email.com", "1111"));
+        Theme theme = themeRepository.save(new Theme("Harry Potter", "해리포터와 도비", "thumbnail.jpg"));
+        Time time = timeRepository.save(new Time(LocalTime.of(12, 0)));
+        detail = detailRepository.save(new ReservationDetail(theme, time, LocalDate.now().plusDays(1)));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @DisplayName("성공 : 예약 추가는 조회 한 번과 INSERT 한 번으로 끝난다.")
+    void addReservation() {
+        ReservationResponse response = reservationService.addReservation(
+                new ReservationRequest(member.getId(), detail.getId()));
+
+        assertThat(response.name()).isEqualTo(member.getName());
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("성공 : 예약 대기 추가는 조회 한 번, 순번 발급 한 번과 INSERT 한 번으로 끝난다.")
+    void addReservationWaiting() {
+        ReservationResponse response = waitingService.addReservationWaiting(
+                new ReservationRequest(member.getId(), detail.getId()));
+
+        assertThat(response.name()).isEqualTo(member.getName());
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+}
@@ -77,6 +77,44 @@ class ThemeControllerTest {
         assertThat(actualSize).isEqualTo(expected.size());
     }
 
+    @Test
+    @DisplayName("성공 : 테마 정보가 바뀌지 않았다면 304 응답을 받는다.")
+    void findThemes_NotModified() {
+        String eTag = RestAssured
+                .when().get("/themes")
+                .then()
+                .statusCode(200).extract()
+                .header("ETag");
+
+        RestAssured.given()
+                .header("If-None-Match", eTag)
+                .when().get("/themes")
+                .then()
+                .statusCode(304);
+    }
+
+    @Test
+    @DisplayName("성공 : 테마가 추가되면 새로운 ETag로 응답한다.")
+    void findThemes_Modified() {
+        String eTag = RestAssured
+                .when().get("/themes")
+                .then()
+                .statusCode(200).extract()
+                .header("ETag");
+        RestAssured.given()
+                .contentType(ContentType.JSON)
+                .body(new ThemeRequest("Harry Potter2", "해리포터와 도비2", "thumbnail.jpg"))
+                .when().post("/themes")
+                .then()
+                .statusCode(201);
+
+        RestAssured.given()
+                .header("If-None-Match", eTag)
+                .when().get("/themes")
+                .then()
+                .statusCode(200);
+    }
+
     @Test
     @DisplayName("성공 : 최근 7일간 인기 테마 정보를 얻을 수 있다.")
     void findThemeRanking() {
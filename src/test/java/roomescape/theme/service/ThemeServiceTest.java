@@ -21,11 +21,14 @@ import roomescape.theme.dto.ThemeRankResponse;
 import roomescape.theme.dto.ThemeRequest;
 import roomescape.theme.dto.ThemeResponse;
 import roomescape.theme.repository.ThemeRepository;
+import roomescape.version.AggregateVersionRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class ThemeServiceTest {
     @Mock
     private ThemeRepository themeRepository;
+    @Mock
+    private AggregateVersionRegistry versionRegistry;
 
     @InjectMocks
     private ThemeService themeService;
@@ -34,8 +37,8 @@ class ThemeServiceTest {
     @DisplayName("성공 : 테마를 조회할 수 있다.")
     void findThemes() {
         Theme theme = new Theme(1L, "그켬미", "켬미 방탈출", "thumbnail");
-        when(themeRepository.findAll())
-                .thenReturn(List.of(theme));
+        when(themeRepository.findAllThemeResponses())
+                .thenReturn(List.of(ThemeResponse.from(theme)));
 
         List<ThemeResponse> actual = themeService.findThemes();
 
@@ -14,6 +14,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
 import roomescape.time.domain.Time;
+import roomescape.time.dto.TimeResponse;
 
 @DataJpaTest
 class TimeRepositoryTest {
@@ -45,6 +46,18 @@ class TimeRepositoryTest {
         assertThat(times).hasSize(3);
     }
 
+    @Test
+    @DisplayName("성공 : 시간 정보를 시작 시간 순서의 응답으로 바로 조회할 수 있다.")
+    void findAllTimeResponses() {
+        entityManager.persist(new Time(LocalTime.of(15, 0)));
+        entityManager.persist(new Time(LocalTime.of(13, 0)));
+
+        List<TimeResponse> responses = timeRepository.findAllTimeResponses();
+
+        assertThat(responses).extracting(TimeResponse::startAt)
+                .containsExactly(LocalTime.of(13, 0), LocalTime.of(15, 0));
+    }
+
     @Test
     @DisplayName("성공 : 해당 시간이 존재할 경우 true를 반환한다.")
     void countByStartAt_true() {
@@ -19,10 +19,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import roomescape.exception.ConflictException;
 import roomescape.reservation.repository.ReservationDetailRepository;
+import roomescape.reservation.service.ReservationAvailabilityIndex;
 import roomescape.time.domain.Time;
 import roomescape.time.dto.TimeRequest;
 import roomescape.time.dto.TimeResponse;
 import roomescape.time.repository.TimeRepository;
+import roomescape.version.AggregateVersionRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class TimeServiceTest {
@@ -35,6 +37,10 @@ class TimeServiceTest {
     private ReservationDetailRepository detailRepository;
     @Mock
     private TimeRepository timeRepository;
+    @Mock
+    private ReservationAvailabilityIndex availabilityIndex;
+    @Mock
+    private AggregateVersionRegistry versionRegistry;
 
     @Test
     @DisplayName("성공 : 시간을 추가한다.")
@@ -52,8 +58,8 @@ class TimeServiceTest {
     @Test
     @DisplayName("성공 : 시간을 찾는다.")
     void findReservationTimes() {
-        when(timeRepository.findAllByOrderByStartAtAsc())
-                .thenReturn(List.of(time));
+        when(timeRepository.findAllTimeResponses())
+                .thenReturn(List.of(TimeResponse.from(time)));
 
         List<TimeResponse> timeResponses = timeService.findReservationTimes();
 
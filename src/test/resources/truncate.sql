@@ -1,3 +1,4 @@
+DELETE FROM waiting_promotion;
 DELETE FROM reservation_waiting;
 DELETE FROM reservation;
 DELETE FROM reservation_detail;
@@ -5,6 +6,7 @@ DELETE FROM member;
 DELETE FROM time;
 DELETE FROM theme;
 
+ALTER TABLE waiting_promotion ALTER COLUMN id RESTART;
 ALTER TABLE reservation_detail ALTER COLUMN id RESTART;
 ALTER TABLE reservation_waiting ALTER COLUMN id RESTART;
 ALTER TABLE reservation ALTER COLUMN id RESTART;